@@ -222,6 +222,32 @@ export const markerAPI = {
         }
     },
 
+    // ⌨️ 제목 자동완성 (공개)
+    async suggestMarkers(prefix, limit = 10) {
+        try {
+            const params = new URLSearchParams({
+                prefix,
+                limit: limit.toString()
+            })
+
+            const response = await fetch(`${API_BASE_URL}/markers/suggest?${params}`, {
+                method: 'GET',
+                headers: {
+                    'Content-Type': 'application/json',
+                },
+                mode: 'cors',
+                credentials: 'omit'
+            })
+
+            const suggestions = await handleApiResponse(response)
+            return suggestions || []
+
+        } catch (error) {
+            console.error('❌ [Marker API] 자동완성 조회 실패:', error)
+            throw error
+        }
+    },
+
     // 🔍 위치 기반 마커 검색 (공개)
     async getMarkersInArea(minLat, maxLat, minLng, maxLng) {
         try {
@@ -283,6 +309,141 @@ export const markerAPI = {
         }
     },
 
+    // 🔄 마커 변경분 조회 (공개) - since 토큰 이후 변경/삭제만 전달, 토큰이 없으면 전체 동기화
+    async getMarkerChanges(since = null, limit = 500) {
+        try {
+            const params = new URLSearchParams({ limit: limit.toString() })
+            if (since) {
+                params.append('since', since)
+            }
+
+            const response = await fetch(`${API_BASE_URL}/markers/changes?${params}`, {
+                method: 'GET',
+                headers: {
+                    'Content-Type': 'application/json',
+                },
+                mode: 'cors',
+                credentials: 'omit'
+            })
+
+            const changes = await handleApiResponse(response)
+            console.log(`✅ [Marker API] 변경분 조회 - 수정 ${changes.upserts?.length || 0}개, 삭제 ${changes.deletedIds?.length || 0}개`)
+            return changes
+
+        } catch (error) {
+            console.error('❌ [Marker API] 마커 변경분 조회 실패:', error)
+            throw error
+        }
+    },
+
+    // 📡 영역 내 마커 변경 실시간 구독 (공개, SSE) - 폴링 대신 사용
+    // onChange(type, payload): type 은 created / updated / deleted (구독 영역 기준)
+    subscribeMarkerChanges(minLat, maxLat, minLng, maxLng, onChange) {
+        const params = new URLSearchParams({
+            minLat: minLat.toString(),
+            maxLat: maxLat.toString(),
+            minLng: minLng.toString(),
+            maxLng: maxLng.toString()
+        })
+
+        const source = new EventSource(`${API_BASE_URL}/markers/subscribe?${params}`)
+        let subscriptionId = null
+
+        source.addEventListener('subscribed', (event) => {
+            subscriptionId = JSON.parse(event.data).subscriptionId
+            console.log('✅ [Marker API] 마커 변경 구독 시작:', subscriptionId)
+        })
+        for (const type of ['created', 'updated', 'deleted']) {
+            source.addEventListener(type, (event) => onChange(type, JSON.parse(event.data)))
+        }
+        source.onerror = (error) => console.warn('⚠️ [Marker API] 마커 변경 구독 연결 오류 (자동 재연결):', error)
+
+        return {
+            // 지도 이동 시 재연결 없이 구독 영역 변경
+            async updateViewport(newMinLat, newMaxLat, newMinLng, newMaxLng) {
+                if (!subscriptionId) return
+                const viewport = new URLSearchParams({
+                    minLat: newMinLat.toString(),
+                    maxLat: newMaxLat.toString(),
+                    minLng: newMinLng.toString(),
+                    maxLng: newMaxLng.toString()
+                })
+                await fetch(`${API_BASE_URL}/markers/subscribe/${subscriptionId}?${viewport}`, {
+                    method: 'PUT',
+                    mode: 'cors',
+                    credentials: 'omit'
+                })
+            },
+            close() {
+                source.close()
+            }
+        }
+    },
+
+    // 📦 ID 목록으로 마커 일괄 조회 (공개) - 500개 단위로 나눠 요청
+    // fields 를 지정하면 해당 필드(+ id)만 응답. 반환: { markers, missingIds }
+    async getMarkersByIds(ids, fields = null) {
+        const BATCH_SIZE = 500
+        const result = { markers: [], missingIds: [] }
+
+        try {
+            for (let i = 0; i < ids.length; i += BATCH_SIZE) {
+                const response = await fetch(`${API_BASE_URL}/markers/batch-get`, {
+                    method: 'POST',
+                    headers: {
+                        'Content-Type': 'application/json',
+                    },
+                    mode: 'cors',
+                    credentials: 'omit',
+                    body: JSON.stringify({ ids: ids.slice(i, i + BATCH_SIZE), fields })
+                })
+
+                const data = await handleApiResponse(response)
+                result.markers.push(...(data.markers || []))
+                result.missingIds.push(...(data.missingIds || []))
+            }
+
+            console.log(`✅ [Marker API] 일괄 조회 - ${result.markers.length}개, 없음 ${result.missingIds.length}개`)
+            return result
+
+        } catch (error) {
+            console.error('❌ [Marker API] 마커 일괄 조회 실패:', error)
+            throw error
+        }
+    },
+
+    // 🗺️ 줌 레벨별 마커 클러스터 조회 (공개)
+    async getMarkerClusters(minLat, maxLat, minLng, maxLng, zoom) {
+        try {
+            console.log('📡 [Marker API] 마커 클러스터 조회...', { zoom })
+
+            const params = new URLSearchParams({
+                minLat: minLat.toString(),
+                maxLat: maxLat.toString(),
+                minLng: minLng.toString(),
+                maxLng: maxLng.toString(),
+                zoom: zoom.toString()
+            })
+
+            const response = await fetch(`${API_BASE_URL}/markers/clusters?${params}`, {
+                method: 'GET',
+                headers: {
+                    'Content-Type': 'application/json',
+                },
+                mode: 'cors',
+                credentials: 'omit'
+            })
+
+            const clusters = await handleApiResponse(response)
+            console.log(`✅ [Marker API] 클러스터 ${clusters.length || 0}개 조회 완료`)
+            return clusters || []
+
+        } catch (error) {
+            console.error('❌ [Marker API] 마커 클러스터 조회 실패:', error)
+            throw error
+        }
+    },
+
     // 📄 페이징된 마커 조회 (공개)
     async getMarkersWithPaging(page = 0, size = 10, sortBy = 'createdAt', sortDir = 'desc') {
         try {
@@ -340,6 +501,30 @@ export const markerAPI = {
         }
     },
 
+    // 🔒 내 마커 커서 기반 조회 (무한 스크롤, 인증 필요)
+    async getMyMarkersWithCursor(cursor = null, size = 10) {
+        try {
+            console.log('📡 [Marker API] 내 마커 커서 조회...')
+
+            const params = new URLSearchParams({ size: size.toString() })
+            if (cursor) {
+                params.append('cursor', cursor)
+            }
+
+            const response = await createAuthenticatedRequest(`${API_BASE_URL}/markers/my/paged/cursor?${params}`, {
+                method: 'GET'
+            })
+
+            const cursorPage = await handleApiResponse(response)
+            console.log('✅ [Marker API] 내 마커 커서 조회 완료')
+            return cursorPage
+
+        } catch (error) {
+            console.error('❌ [Marker API] 내 마커 커서 조회 실패:', error)
+            throw error
+        }
+    },
+
     // 🧪 서버 연결 테스트
     async testConnection() {
         try {
@@ -473,11 +658,17 @@ const testAuthConnection = async () => {
 }
 
 // 🔄 기존 컴포넌트와의 호환성을 위한 export (CollectionSidebar.vue에서 사용)
+// 의류수거함 화면에서 사용하는 마커 필드
+const COLLECTION_FIELDS = ['title', 'description', 'category', 'latitude', 'longitude', 'createdAt', 'createdByEmail']
+
 export const collectionAPI = {
     // 의류수거함 목록 조회 (마커 데이터를 의류수거함 형태로 변환)
-    async getCollections() {
+    // ids 를 넘기면 해당 마커만 일괄 조회 (북마크 목록 등 - 전체 목록을 내려받지 않음)
+    async getCollections(ids = null) {
         try {
-            const markers = await markerAPI.getAllMarkers()
+            const markers = Array.isArray(ids)
+                ? (ids.length > 0 ? (await markerAPI.getMarkersByIds(ids, COLLECTION_FIELDS)).markers : [])
+                : await markerAPI.getAllMarkers()
 
             // 마커 데이터를 의류수거함 형태로 변환
             const collections = markers.map(marker => ({
@@ -168,7 +168,10 @@ export const useCollectionStore = defineStore('collection', {
             this.clearError()
 
             try {
-                const data = await collectionAPI.getCollections()
+                // 북마크만 보는 경우 전체 목록 대신 북마크한 마커만 일괄 조회
+                const data = this.filters.showBookmarkedOnly && this.bookmarkedIds.size > 0
+                    ? await collectionAPI.getCollections(Array.from(this.bookmarkedIds))
+                    : await collectionAPI.getCollections()
                 this.collections = data
                 this.lastRefreshTime = new Date()
 
@@ -299,7 +302,11 @@ export const useCollectionStore = defineStore('collection', {
                     this.filters.category = value
                     break
                 case 'showBookmarkedOnly':
-                    this.filters.showBookmarkedOnly = value
+                    if (this.filters.showBookmarkedOnly !== value) {
+                        this.filters.showBookmarkedOnly = value
+                        // 북마크 전용 ↔ 전체 목록 전환 시 다시 로드
+                        this.loadCollections().catch(() => {})
+                    }
                     break
                 case 'maxDistance':
                     this.filters.maxDistance = value
@@ -319,6 +326,7 @@ export const useCollectionStore = defineStore('collection', {
         // 🔍 필터 초기화
         resetFilters() {
             console.log('🔄 [Collection Store] 필터 초기화')
+            const wasBookmarkedOnly = this.filters.showBookmarkedOnly
             this.filters = {
                 sortBy: 'distance',
                 category: 'all',
@@ -326,6 +334,9 @@ export const useCollectionStore = defineStore('collection', {
                 maxDistance: 10,
                 searchQuery: ''
             }
+            if (wasBookmarkedOnly) {
+                this.loadCollections().catch(() => {})
+            }
         },
 
         // 📍 사용자 위치 설정 및 거리 계산
@@ -0,0 +1,76 @@
+package com.example.navermapbackend.config;
+
+import com.example.navermapbackend.service.TokenRevocationService;
+import com.example.navermapbackend.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// ⏱️ JwtAuthenticationFilter.doFilterInternal (다음 필터 체인은 비어 있음)
+// authenticatedCacheHit: 같은 토큰을 반복 사용하는 일반 클라이언트
+// anonymous: Authorization 헤더가 없는 공개 조회 요청
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil("mySecretKeyForNaverMapBackendApplication123456");
+        // 폐기 확인은 메모리 목록만 사용하므로 저장소 없이 생성
+        TokenRevocationService revocationService = new TokenRevocationService(null, null, meterRegistry);
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, revocationService, meterRegistry, 10_000);
+        filter = new JwtAuthenticationFilter(cache, meterRegistry);
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/markers/my");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + jwtUtil.generateAccessToken(1L, "user@test.com"));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/markers");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object authenticatedCacheHit() throws Exception {
+        try {
+            filter.doFilterInternal(authenticatedRequest, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object anonymous() throws Exception {
+        try {
+            filter.doFilterInternal(anonymousRequest, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.navermapbackend.dto;
+
+import com.example.navermapbackend.service.MarkerResponseBenchmark;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ⏱️ ApiResponse<List<MarkerResponse>> JSON 직렬화 (마커 목록 응답 본문)
+// application.properties 와 같은 설정: 날짜는 ISO 문자열, 들여쓰기 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int markerCount;
+
+    @Param({"true", "false"})
+    public boolean indentOutput;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<MarkerResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .indentOutput(indentOutput)
+                .build();
+        response = ApiResponse.success(MarkerResponseBenchmark.BenchmarkData.responses(markerCount), "마커 조회 성공");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.dto.MarkerResponse;
+import com.example.navermapbackend.model.Marker;
+import com.example.navermapbackend.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ⏱️ Marker 엔티티 -> MarkerResponse 변환 (목록 응답마다 마커 수만큼 호출)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkerResponseBenchmark {
+
+    @Param({"1", "100"})
+    public int markerCount;
+
+    private MarkerService markerService;
+    private List<Marker> markers;
+
+    @Setup
+    public void setUp() {
+        // 변환 메서드는 의존성을 사용하지 않음
+        markerService = new MarkerService(null, null, null, null, null, null, null, null, null);
+        markers = BenchmarkData.markers(markerCount);
+    }
+
+    @Benchmark
+    public List<MarkerResponse> convertToMarkerResponse() {
+        List<MarkerResponse> responses = new ArrayList<>(markers.size());
+        for (Marker marker : markers) {
+            responses.add(markerService.convertToMarkerResponse(marker));
+        }
+        return responses;
+    }
+
+    // 벤치마크 공용 샘플 데이터
+    public static final class BenchmarkData {
+
+        private BenchmarkData() {
+        }
+
+        public static List<Marker> markers(int count) {
+            User owner = User.builder()
+                    .id(1L)
+                    .name("테스트유저")
+                    .email("user@test.com")
+                    .build();
+            LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+            List<Marker> markers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                markers.add(Marker.builder()
+                        .id((long) i + 1)
+                        .latitude(37.5665 + i * 0.0001)
+                        .longitude(126.9780 + i * 0.0001)
+                        .title("서울 맛집 " + i)
+                        .description("광화문 근처에 있는 오래된 국밥집입니다. 점심시간에는 줄이 깁니다. #" + i)
+                        .category("restaurant")
+                        .createdBy(owner)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+            }
+            return markers;
+        }
+
+        public static List<MarkerResponse> responses(int count) {
+            MarkerService markerService = new MarkerService(null, null, null, null, null, null, null, null, null);
+            List<MarkerResponse> responses = new ArrayList<>(count);
+            for (Marker marker : markers(count)) {
+                responses.add(markerService.convertToMarkerResponse(marker));
+            }
+            return responses;
+        }
+    }
+}
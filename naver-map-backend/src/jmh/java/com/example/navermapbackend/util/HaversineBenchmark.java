@@ -0,0 +1,72 @@
+package com.example.navermapbackend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// ⏱️ 거리 계산식 비교 (마커 한 개당 비용)
+// sphericalLawOfCosines: MarkerRepository.findMarkersWithinRadius 의 JPQL 식과 같은 계산
+// haversine: GeoUtils.haversineKm (공간 인덱스 경로에서 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HaversineBenchmark {
+
+    private static final int POINTS = 1024;
+
+    private final double[] lats = new double[POINTS];
+    private final double[] lngs = new double[POINTS];
+    private final double centerLat = 37.5665;
+    private final double centerLng = 126.9780;
+    private final double radiusKm = 5.0;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = centerLat + random.nextDouble(-0.2, 0.2);
+            lngs[i] = centerLng + random.nextDouble(-0.2, 0.2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int sphericalLawOfCosines() {
+        int within = 0;
+        for (int i = 0; i < POINTS; i++) {
+            double distance = 6371 * Math.acos(Math.cos(Math.toRadians(centerLat)) * Math.cos(Math.toRadians(lats[i]))
+                    * Math.cos(Math.toRadians(lngs[i]) - Math.toRadians(centerLng))
+                    + Math.sin(Math.toRadians(centerLat)) * Math.sin(Math.toRadians(lats[i])));
+            if (distance <= radiusKm) {
+                within++;
+            }
+        }
+        return within;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int haversine() {
+        int within = 0;
+        for (int i = 0; i < POINTS; i++) {
+            if (GeoUtils.haversineKm(centerLat, centerLng, lats[i], lngs[i]) <= radiusKm) {
+                within++;
+            }
+        }
+        return within;
+    }
+}
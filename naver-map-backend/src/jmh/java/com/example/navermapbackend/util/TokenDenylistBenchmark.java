@@ -0,0 +1,78 @@
+package com.example.navermapbackend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// ⏱️ 인증 요청마다 추가되는 폐기 확인 비용
+// 비교 기준: 인증 필터가 이미 요청마다 수행하는 토큰 다이제스트(SHA-256) 계산
+// ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TokenDenylistBenchmark {
+
+    // 메모리에 유지 중인 폐기 토큰 수
+    @Param({"0", "10000", "1000000"})
+    public int revokedCount;
+
+    private TokenDenylist denylist;
+    private String activeJti;
+    private String revokedJti;
+    private String token;
+    private long issuedAtMillis;
+
+    @Setup
+    public void setUp() {
+        denylist = new TokenDenylist();
+        long expiresAt = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+        for (int i = 0; i < revokedCount; i++) {
+            String jti = UUID.randomUUID().toString();
+            denylist.revoke(jti, expiresAt);
+            revokedJti = jti;
+        }
+        // 다른 사용자들의 전체 로그아웃 기준 시각
+        for (long userId = 1; userId <= revokedCount / 100; userId++) {
+            denylist.revokeIssuedBefore(userId, System.currentTimeMillis());
+        }
+        activeJti = UUID.randomUUID().toString();
+        issuedAtMillis = System.currentTimeMillis();
+        // 실제 access token 과 비슷한 길이
+        token = "eyJhbGciOiJIUzI1NiJ9." + "x".repeat(220) + "." + "y".repeat(43);
+    }
+
+    // 대부분의 요청: 폐기되지 않은 토큰
+    @Benchmark
+    public boolean activeToken() {
+        return denylist.isRevoked(activeJti, 1_000_000_007L, issuedAtMillis);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return denylist.isRevoked(revokedJti, 1_000_000_007L, issuedAtMillis);
+    }
+
+    @Benchmark
+    public byte[] baselineTokenDigest() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+    }
+}
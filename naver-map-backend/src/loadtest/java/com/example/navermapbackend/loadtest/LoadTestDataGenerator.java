@@ -0,0 +1,137 @@
+package com.example.navermapbackend.loadtest;
+
+import com.example.navermapbackend.index.MarkerIndexCoordinator;
+import com.example.navermapbackend.service.MarkerChangeSequence;
+import com.example.navermapbackend.service.UserExistenceFilter;
+import com.example.navermapbackend.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 🏗️ 부하 테스트용 대량 데이터 생성 - loadtest 프로필 전용 (src/loadtest, 운영 jar 에는 포함되지 않음)
+// ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+// JPA 를 거치지 않고 JdbcTemplate 배치로 적재한 뒤 인메모리 인덱스/필터를 다시 구축한다.
+// 시퀀스 재설정과 인덱스 재구축이 실제 요청과 겹치지 않도록 웹 서버가 요청을 받기 전에 실행한다.
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestDataGenerator implements SmartInitializingSingleton {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final MarkerIndexCoordinator markerIndexCoordinator;
+    private final MarkerChangeSequence changeSequence;
+    private final UserExistenceFilter userExistenceFilter;
+
+    @Value("${loadtest.users:1000}")
+    private int userCount;
+
+    @Value("${loadtest.markers:100000}")
+    private int markerCount;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    // 컨텍스트 초기화 중(웹 서버 시작 전)에 실행
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        insertUsers(transactionTemplate);
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+        long lastMarkerId = insertMarkers(transactionTemplate, userIds, random);
+
+        // 시퀀스/변경 번호를 적재한 데이터 이후로 이동 (pooled 옵티마이저 할당 단위 50)
+        jdbcTemplate.execute("ALTER SEQUENCE marker_seq RESTART WITH " + (lastMarkerId + 51));
+        changeSequence.advanceTo(lastMarkerId);
+
+        markerIndexCoordinator.rebuildAll();
+        userExistenceFilter.rebuild();
+
+        log.info("부하 테스트 데이터 생성 완료 - 사용자 {}명, 마커 {}개, {}ms (로그인 비밀번호: {})",
+                userCount, markerCount, System.currentTimeMillis() - start, SyntheticMarkerData.PASSWORD);
+    }
+
+    private void insertUsers(TransactionTemplate transactionTemplate) {
+        // 모든 사용자가 같은 비밀번호 - BCrypt 는 한 번만 계산
+        String encodedPassword = passwordEncoder.encode(SyntheticMarkerData.PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < userCount; from += CHUNK_SIZE) {
+            List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(userCount, from + CHUNK_SIZE); i++) {
+                rows.add(new Object[]{
+                        "부하테스트" + i,
+                        SyntheticMarkerData.email(i),
+                        encodedPassword,
+                        SyntheticMarkerData.phone(i),
+                        false,
+                        now,
+                        now
+                });
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO users (name, email, password, phone, agree_to_marketing, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows));
+        }
+    }
+
+    private long insertMarkers(TransactionTemplate transactionTemplate, List<Long> userIds, SplittableRandom random) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM markers", Long.class);
+        long nextId = (maxId != null ? maxId : 0L) + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < markerCount; from += CHUNK_SIZE) {
+            List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(markerCount, from + CHUNK_SIZE); i++) {
+                SyntheticMarkerData.City city = SyntheticMarkerData.pickCity(random);
+                int district = random.nextInt(city.districts().size());
+                double[] point = SyntheticMarkerData.samplePoint(city, district, random);
+                // 최근 1년에 걸쳐 분포 (최신 데이터일수록 조금 더 많게)
+                Timestamp createdAt = Timestamp.valueOf(
+                        now.minusMinutes((long) (Math.pow(random.nextDouble(), 1.5) * 365 * 24 * 60)));
+                long id = nextId++;
+                rows.add(new Object[]{
+                        id,
+                        point[0],
+                        point[1],
+                        GeoUtils.encodeGeohash(point[0], point[1]),
+                        SyntheticMarkerData.title(city, district, random),
+                        SyntheticMarkerData.description(city, district, random),
+                        SyntheticMarkerData.category(random),
+                        userIds.get(random.nextInt(userIds.size())),
+                        createdAt,
+                        createdAt,
+                        id
+                });
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO markers (id, latitude, longitude, geohash, title, description, category, user_id, "
+                            + "created_at, updated_at, change_seq, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)",
+                    rows));
+            if ((from / CHUNK_SIZE) % 20 == 19) {
+                log.info("마커 적재 중 - {}/{}", from + CHUNK_SIZE, markerCount);
+            }
+        }
+        return nextId - 1;
+    }
+}
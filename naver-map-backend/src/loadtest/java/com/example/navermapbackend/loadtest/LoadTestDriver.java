@@ -0,0 +1,497 @@
+package com.example.navermapbackend.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 🚦 폐쇄 루프(closed-loop) 부하 드라이버
+// 가상 클라이언트마다 "요청 -> 응답 대기 -> 생각 시간 -> 다음 요청" 을 반복하며 혼합 작업을 보낸다.
+// 서버는 loadtest 프로필로 먼저 띄워 둔다 (합성 사용자/마커 생성).
+//   ./gradlew loadTest -PloadArgs="--clients=1000 --duration=60 --warmup=10"
+// --metrics-password 를 주면 측정 구간 동안 /actuator/prometheus 를 읽어 Hikari 대기자와 가상 스레드 고정 횟수도 보고하고,
+// --report=<파일> 을 주면 같은 보고서를 파일로 남긴다 (기본 모드 vs virtual 프로필 비교: loadtest-results/README.md).
+public final class LoadTestDriver {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern MARKER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    // 작업 종류와 비중 (지도 이동/조회 위주, 쓰기와 로그인은 소수)
+    enum Operation {
+        AREA(35), NEARBY(15), SEARCH(10), PAGED(8), PAGED_CURSOR(8), MY_PAGED(6),
+        MARKER_BY_ID(6), CREATE(5), DELETE(3), LOGIN(4);
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    record Options(String baseUrl, int clients, int durationSeconds, int warmupSeconds,
+                   int users, long thinkTimeMs, long seed,
+                   String label, String metricsUser, String metricsPassword, String report) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (arg.startsWith("--") && arg.contains("=")) {
+                    values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+                }
+            }
+            return new Options(
+                    values.getOrDefault("base-url", "http://localhost:8080"),
+                    Integer.parseInt(values.getOrDefault("clients", "200")),
+                    Integer.parseInt(values.getOrDefault("duration", "60")),
+                    Integer.parseInt(values.getOrDefault("warmup", "10")),
+                    Integer.parseInt(values.getOrDefault("users", "1000")),
+                    Long.parseLong(values.getOrDefault("think-ms", "0")),
+                    Long.parseLong(values.getOrDefault("seed", "7")),
+                    values.getOrDefault("label", "default"),
+                    values.getOrDefault("metrics-user", "prometheus"),
+                    values.get("metrics-password"),
+                    values.get("report"));
+        }
+    }
+
+    // 클라이언트(스레드)별 기록 - 종료 후 합산하므로 동기화 불필요
+    static final class Recorder {
+        private final Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> errors = new EnumMap<>(Operation.class);
+
+        void record(Operation operation, long nanos, boolean ok) {
+            long[] values = latencies.computeIfAbsent(operation, o -> new long[1024]);
+            int count = counts.getOrDefault(operation, 0);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(operation, values);
+            }
+            values[count] = nanos;
+            counts.put(operation, count + 1);
+            if (!ok) {
+                errors.merge(operation, 1, Integer::sum);
+            }
+        }
+    }
+
+    static final class Client implements Runnable {
+        private final Options options;
+        private final HttpClient http;
+        private final SplittableRandom random;
+        private final int userIndex;
+        private final long measureFromNanos;
+        private final long endNanos;
+        private final Recorder recorder = new Recorder();
+        private final List<Long> createdIds = new ArrayList<>();
+        private String token;
+
+        // 클라이언트마다 한 도시에서 지도를 이리저리 움직인다
+        private SyntheticMarkerData.City city;
+        private double centerLat;
+        private double centerLng;
+
+        Client(Options options, HttpClient http, long seed, int userIndex, long measureFromNanos, long endNanos) {
+            this.options = options;
+            this.http = http;
+            this.random = new SplittableRandom(seed);
+            this.userIndex = userIndex;
+            this.measureFromNanos = measureFromNanos;
+            this.endNanos = endNanos;
+        }
+
+        @Override
+        public void run() {
+            city = SyntheticMarkerData.pickCity(random);
+            centerLat = city.latitude();
+            centerLng = city.longitude();
+            execute(Operation.LOGIN);
+
+            while (System.nanoTime() < endNanos) {
+                execute(pick());
+                if (options.thinkTimeMs() > 0) {
+                    try {
+                        Thread.sleep(random.nextLong(options.thinkTimeMs() * 2 + 1));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        private Operation pick() {
+            int total = 0;
+            for (Operation operation : Operation.values()) {
+                total += operation.weight;
+            }
+            int r = random.nextInt(total);
+            for (Operation operation : Operation.values()) {
+                r -= operation.weight;
+                if (r < 0) {
+                    return operation;
+                }
+            }
+            return Operation.AREA;
+        }
+
+        private void execute(Operation operation) {
+            HttpRequest request = build(operation);
+            if (request == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            boolean ok;
+            String body = null;
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                ok = response.statusCode() < 400;
+                body = response.body();
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (start >= measureFromNanos) {
+                recorder.record(operation, elapsed, ok);
+            }
+            if (ok) {
+                afterResponse(operation, body);
+            }
+        }
+
+        private void afterResponse(Operation operation, String body) {
+            if (operation == Operation.LOGIN) {
+                Matcher matcher = TOKEN.matcher(body);
+                if (matcher.find()) {
+                    token = matcher.group(1);
+                }
+            } else if (operation == Operation.CREATE) {
+                Matcher matcher = MARKER_ID.matcher(body);
+                if (matcher.find()) {
+                    createdIds.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+
+        private HttpRequest build(Operation operation) {
+            switch (operation) {
+                case AREA -> {
+                    // 지도 이동: 중심을 조금씩 옮기고, 가끔 다른 번화가로 점프
+                    if (random.nextInt(10) == 0) {
+                        double[] center = SyntheticMarkerData.districtCenter(city, random.nextInt(city.districts().size()));
+                        centerLat = center[0];
+                        centerLng = center[1];
+                    } else {
+                        centerLat += random.nextDouble(-0.004, 0.004);
+                        centerLng += random.nextDouble(-0.005, 0.005);
+                    }
+                    double halfLat = random.nextInt(4) == 0 ? 0.03 : 0.008;
+                    double halfLng = halfLat * 1.3;
+                    return get(String.format(Locale.ROOT, "/api/markers/area?minLat=%.6f&maxLat=%.6f&minLng=%.6f&maxLng=%.6f",
+                            centerLat - halfLat, centerLat + halfLat, centerLng - halfLng, centerLng + halfLng));
+                }
+                case NEARBY -> {
+                    return get(String.format(Locale.ROOT, "/api/markers/nearby?lat=%.6f&lng=%.6f&radius=%.1f",
+                            centerLat, centerLng, random.nextInt(3) == 0 ? 3.0 : 1.0));
+                }
+                case SEARCH -> {
+                    String keyword = SyntheticMarkerData.SEARCH_KEYWORDS.get(
+                            random.nextInt(SyntheticMarkerData.SEARCH_KEYWORDS.size()));
+                    return get("/api/markers/search?keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+                }
+                case PAGED -> {
+                    return get("/api/markers/paged?page=" + random.nextInt(50) + "&size=20");
+                }
+                case PAGED_CURSOR -> {
+                    return get("/api/markers/paged/cursor?size=20");
+                }
+                case MY_PAGED -> {
+                    return token == null ? null : get("/api/markers/my/paged?page=0&size=20");
+                }
+                case MARKER_BY_ID -> {
+                    return get("/api/markers/" + (1 + random.nextInt(1000)));
+                }
+                case CREATE -> {
+                    if (token == null) {
+                        return null;
+                    }
+                    int district = random.nextInt(city.districts().size());
+                    double[] point = SyntheticMarkerData.samplePoint(city, district, random);
+                    String json = String.format(Locale.ROOT,
+                            "{\"latitude\":%.7f,\"longitude\":%.7f,\"title\":\"%s\",\"description\":\"%s\",\"category\":\"%s\"}",
+                            point[0], point[1],
+                            SyntheticMarkerData.title(city, district, random),
+                            SyntheticMarkerData.description(city, district, random),
+                            SyntheticMarkerData.category(random));
+                    return request("/api/markers")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                            .build();
+                }
+                case DELETE -> {
+                    // 자신이 만든 마커만 삭제 (데이터 규모 유지)
+                    if (token == null || createdIds.isEmpty()) {
+                        return null;
+                    }
+                    long id = createdIds.remove(createdIds.size() - 1);
+                    return request("/api/markers/" + id).DELETE().build();
+                }
+                case LOGIN -> {
+                    String json = "{\"email\":\"" + SyntheticMarkerData.email(userIndex)
+                            + "\",\"password\":\"" + SyntheticMarkerData.PASSWORD + "\"}";
+                    return HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/auth/login"))
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                            .build();
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                    .timeout(Duration.ofSeconds(30));
+            if (token != null) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder;
+        }
+    }
+
+    // 🔎 서버 지표 샘플러 - 측정 구간 동안 1초마다 /actuator/prometheus 를 읽어
+    // Hikari 대기자 수(최대/평균), 커넥션 획득 시간 초과, 가상 스레드 고정 횟수, 라이브 스레드 수를 집계한다.
+    static final class ServerMetrics implements Runnable {
+        private static final Pattern SAMPLE = Pattern.compile("^([a-zA-Z_:][a-zA-Z0-9_:]*)(\\{[^}]*})?\\s+(\\S+)");
+
+        private final Options options;
+        private final HttpClient http;
+        private final long measureFromNanos;
+        private final long endNanos;
+        private Map<String, Double> first;
+        private Map<String, Double> last;
+        private double pendingMax;
+        private double pendingSum;
+        private double liveThreadsMax;
+        private int samples;
+        private int failures;
+
+        ServerMetrics(Options options, HttpClient http, long measureFromNanos, long endNanos) {
+            this.options = options;
+            this.http = http;
+            this.measureFromNanos = measureFromNanos;
+            this.endNanos = endNanos;
+        }
+
+        @Override
+        public void run() {
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFromNanos - System.nanoTime()));
+                while (System.nanoTime() < endNanos) {
+                    sample();
+                    TimeUnit.SECONDS.sleep(1);
+                }
+                sample();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void sample() {
+            Map<String, Double> values = scrape();
+            if (values == null) {
+                failures++;
+                return;
+            }
+            if (first == null) {
+                first = values;
+            }
+            last = values;
+            double pending = values.getOrDefault("hikaricp_connections_pending", 0.0);
+            pendingMax = Math.max(pendingMax, pending);
+            pendingSum += pending;
+            liveThreadsMax = Math.max(liveThreadsMax, values.getOrDefault("jvm_threads_live_threads", 0.0));
+            samples++;
+        }
+
+        // 지표 이름별로 모든 태그 조합의 값을 합산 (풀이 하나뿐이므로 pool 태그는 구분하지 않음)
+        private Map<String, Double> scrape() {
+            String credential = Base64.getEncoder().encodeToString(
+                    (options.metricsUser() + ":" + options.metricsPassword()).getBytes(StandardCharsets.UTF_8));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + "/actuator/prometheus"))
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Authorization", "Basic " + credential)
+                    .GET()
+                    .build();
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    return null;
+                }
+                Map<String, Double> values = new HashMap<>();
+                for (String line : response.body().split("\n")) {
+                    Matcher matcher = SAMPLE.matcher(line);
+                    if (!line.startsWith("#") && matcher.find()) {
+                        values.merge(matcher.group(1), Double.parseDouble(matcher.group(3)), Double::sum);
+                    }
+                }
+                return values;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        private String delta(String name) {
+            if (first == null || !last.containsKey(name)) {
+                return "n/a";
+            }
+            return String.format(Locale.ROOT, "%.0f", last.get(name) - first.getOrDefault(name, 0.0));
+        }
+
+        void report(StringBuilder out) {
+            if (samples == 0) {
+                out.append(String.format("%n서버 지표 수집 실패 (%d회) - /actuator/prometheus 접근 권한 확인%n", failures));
+                return;
+            }
+            out.append(String.format(Locale.ROOT, "%n서버 지표 (%d회 샘플, 실패 %d회)%n", samples, failures));
+            out.append(String.format(Locale.ROOT, "  hikari pool max            %.0f%n",
+                    last.getOrDefault("hikaricp_connections_max", 0.0)));
+            out.append(String.format(Locale.ROOT, "  hikari pending max / avg   %.0f / %.1f%n",
+                    pendingMax, pendingSum / samples));
+            out.append(String.format(Locale.ROOT, "  hikari acquire timeouts    %s%n",
+                    delta("hikaricp_connections_timeout_total")));
+            out.append(String.format(Locale.ROOT, "  virtual thread pinned      %s%n",
+                    delta("jvm_threads_virtual_pinned_total")));
+            out.append(String.format(Locale.ROOT, "  jvm live threads max       %.0f%n", liveThreadsMax));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        System.out.printf("부하 테스트 시작 - %s, 클라이언트 %d, 워밍업 %ds, 측정 %ds%n",
+                options.baseUrl(), options.clients(), options.warmupSeconds(), options.durationSeconds());
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long now = System.nanoTime();
+        long measureFrom = now + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        List<Client> clients = new ArrayList<>(options.clients());
+        SplittableRandom seeds = new SplittableRandom(options.seed());
+        for (int i = 0; i < options.clients(); i++) {
+            clients.add(new Client(options, http, seeds.nextLong(), i % options.users(), measureFrom, end));
+        }
+
+        ServerMetrics serverMetrics = options.metricsPassword() != null
+                ? new ServerMetrics(options, http, measureFrom, end) : null;
+
+        // 클라이언트 수가 많아도 스레드 수에 묶이지 않도록 가상 스레드 사용
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (serverMetrics != null) {
+                executor.submit(serverMetrics);
+            }
+            clients.forEach(executor::submit);
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT,
+                "[%s] base-url=%s clients=%d warmup=%ds duration=%ds think-ms=%d users=%d seed=%d%n",
+                options.label(), options.baseUrl(), options.clients(), options.warmupSeconds(),
+                options.durationSeconds(), options.thinkTimeMs(), options.users(), options.seed()));
+        report(clients, options.durationSeconds(), out);
+        if (serverMetrics != null) {
+            serverMetrics.report(out);
+        } else {
+            out.append(String.format("%n서버 지표 미수집 (--metrics-password 필요)%n"));
+        }
+
+        System.out.print(out);
+        if (options.report() != null) {
+            Path path = Path.of(options.report());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, out, StandardCharsets.UTF_8);
+            System.out.println("보고서 저장: " + path.toAbsolutePath());
+        }
+    }
+
+    private static void report(List<Client> clients, int durationSeconds, StringBuilder out) {
+        out.append(String.format("%n%-14s %9s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            int count = 0;
+            int errors = 0;
+            for (Client client : clients) {
+                count += client.recorder.counts.getOrDefault(operation, 0);
+                errors += client.recorder.errors.getOrDefault(operation, 0);
+            }
+            if (count == 0) {
+                continue;
+            }
+
+            long[] merged = new long[count];
+            int offset = 0;
+            for (Client client : clients) {
+                int n = client.recorder.counts.getOrDefault(operation, 0);
+                if (n > 0) {
+                    System.arraycopy(client.recorder.latencies.get(operation), 0, merged, offset, n);
+                    offset += n;
+                }
+            }
+            Arrays.sort(merged);
+
+            out.append(String.format(Locale.ROOT, "%-14s %9d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    operation.name().toLowerCase(Locale.ROOT), count, errors, (double) count / durationSeconds,
+                    millis(percentile(merged, 50)), millis(percentile(merged, 99)),
+                    millis(percentile(merged, 99.9)), millis(merged[merged.length - 1])));
+            totalRequests += count;
+            totalErrors += errors;
+        }
+        out.append(String.format(Locale.ROOT, "%-14s %9d %8d %10.1f%n", "total", totalRequests, totalErrors,
+                (double) totalRequests / durationSeconds));
+    }
+
+    // nearest-rank 방식
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.navermapbackend.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 🏙️ 부하 테스트용 합성 데이터 어휘
+// 국내 주요 도시 주변에 인구 비중만큼 마커를 몰아 두고, 도시 안에서도 번화가 몇 곳에 다시 뭉치게 한다.
+// 데이터 생성기(loadtest 프로필)와 부하 드라이버(src/loadtest)가 같은 좌표/검색어를 쓰도록 공유한다.
+public final class SyntheticMarkerData {
+
+    public static final String PASSWORD = "loadtest1234";
+
+    public record City(String name, double latitude, double longitude, double weight, List<String> districts) {
+    }
+
+    public static final List<City> CITIES = List.of(
+            new City("서울", 37.5665, 126.9780, 0.38, List.of("강남", "홍대", "명동", "잠실", "성수", "이태원", "여의도", "종로")),
+            new City("부산", 35.1796, 129.0756, 0.12, List.of("해운대", "서면", "광안리", "남포동", "센텀")),
+            new City("인천", 37.4563, 126.7052, 0.08, List.of("송도", "부평", "월미도", "구월동")),
+            new City("대구", 35.8714, 128.6014, 0.07, List.of("동성로", "수성못", "김광석거리")),
+            new City("대전", 36.3504, 127.3845, 0.05, List.of("둔산", "유성", "은행동")),
+            new City("광주", 35.1595, 126.8526, 0.05, List.of("충장로", "상무지구", "양림동")),
+            new City("수원", 37.2636, 127.0286, 0.06, List.of("행궁동", "인계동", "광교")),
+            new City("울산", 35.5384, 129.3114, 0.03, List.of("삼산동", "일산해수욕장")),
+            new City("제주", 33.4996, 126.5312, 0.06, List.of("애월", "성산", "중문", "함덕")),
+            new City("전주", 35.8242, 127.1480, 0.03, List.of("한옥마을", "객사")),
+            new City("경주", 35.8562, 129.2247, 0.03, List.of("황리단길", "보문단지")),
+            new City("강릉", 37.7519, 128.8761, 0.04, List.of("경포대", "안목해변", "주문진")));
+
+    public static final List<String> CATEGORIES = List.of(
+            "restaurant", "cafe", "tourist", "shopping", "transport", "government", "etc");
+
+    private static final List<String> PLACE_TYPES = List.of(
+            "국밥집", "카페", "분식집", "고깃집", "빵집", "서점", "공원", "전망대", "시장", "미술관",
+            "박물관", "정류장", "주차장", "편의점", "약국", "치킨집", "횟집", "찻집", "게스트하우스", "놀이터");
+
+    private static final List<String> ADJECTIVES = List.of(
+            "오래된", "조용한", "유명한", "새로 생긴", "숨은", "작은", "넓은", "아늑한", "전통", "24시");
+
+    private static final List<String> DESCRIPTIONS = List.of(
+            "주말에는 사람이 많아 일찍 가는 것이 좋습니다.",
+            "현지인들이 자주 찾는 곳입니다.",
+            "주차 공간이 넉넉하지 않으니 대중교통을 추천합니다.",
+            "야경이 특히 아름답습니다.",
+            "가격 대비 만족도가 높습니다.",
+            "아이들과 함께 가기 좋은 곳입니다.",
+            "비 오는 날 분위기가 좋습니다.",
+            "점심시간에는 줄이 깁니다.");
+
+    // 드라이버가 /search 에 보내는 검색어 (실제 제목에 들어가는 단어 위주 + 없는 단어 일부)
+    public static final List<String> SEARCH_KEYWORDS = List.of(
+            "국밥", "카페", "강남", "해운대", "시장", "공원", "빵집", "전망대", "한옥", "조용한",
+            "서울 카페", "부산 횟집", "없는단어", "미술관", "치킨");
+
+    private SyntheticMarkerData() {
+    }
+
+    // 인구 비중에 따라 도시 선택
+    public static City pickCity(SplittableRandom random) {
+        double r = random.nextDouble();
+        double sum = 0;
+        for (City city : CITIES) {
+            sum += city.weight();
+            if (r < sum) {
+                return city;
+            }
+        }
+        return CITIES.get(0);
+    }
+
+    // 도시 안의 번화가 중심 (도시 중심에서 결정적으로 떨어진 지점)
+    public static double[] districtCenter(City city, int districtIndex) {
+        double angle = 2 * Math.PI * districtIndex / city.districts().size();
+        double distanceDeg = 0.02 + 0.015 * (districtIndex % 3);
+        return new double[]{
+                city.latitude() + distanceDeg * Math.sin(angle),
+                city.longitude() + distanceDeg * Math.cos(angle) / Math.cos(Math.toRadians(city.latitude()))
+        };
+    }
+
+    // 좌표 [lat, lng] - 70% 는 번화가 주변(약 500m), 나머지는 도시 전체(약 5km)에 정규분포
+    public static double[] samplePoint(City city, int districtIndex, SplittableRandom random) {
+        double lat;
+        double lng;
+        if (random.nextDouble() < 0.7) {
+            double[] center = districtCenter(city, districtIndex);
+            lat = center[0] + random.nextGaussian() * 0.005;
+            lng = center[1] + random.nextGaussian() * 0.006;
+        } else {
+            lat = city.latitude() + random.nextGaussian() * 0.045;
+            lng = city.longitude() + random.nextGaussian() * 0.055;
+        }
+        return new double[]{clamp(lat, -90, 90), clamp(lng, -180, 180)};
+    }
+
+    public static String title(City city, int districtIndex, SplittableRandom random) {
+        String district = city.districts().get(districtIndex);
+        String type = PLACE_TYPES.get(random.nextInt(PLACE_TYPES.size()));
+        if (random.nextInt(3) == 0) {
+            return district + " " + ADJECTIVES.get(random.nextInt(ADJECTIVES.size())) + " " + type;
+        }
+        return city.name() + " " + district + " " + type;
+    }
+
+    public static String description(City city, int districtIndex, SplittableRandom random) {
+        return city.name() + " " + city.districts().get(districtIndex) + " 근처에 있습니다. "
+                + DESCRIPTIONS.get(random.nextInt(DESCRIPTIONS.size())) + " "
+                + DESCRIPTIONS.get(random.nextInt(DESCRIPTIONS.size()));
+    }
+
+    public static String category(SplittableRandom random) {
+        return CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+    }
+
+    public static String email(int userIndex) {
+        return "loadtest" + userIndex + "@test.com";
+    }
+
+    public static String phone(int userIndex) {
+        return String.format("010-%04d-%04d", 5000 + userIndex / 10000, userIndex % 10000);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
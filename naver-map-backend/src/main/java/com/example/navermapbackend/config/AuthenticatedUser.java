@@ -0,0 +1,26 @@
+package com.example.navermapbackend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+
+// 🔑 JWT 클레임에서 복원한 인증 사용자 (요청마다 DB 조회 없이 userId 사용)
+// getName() 은 이메일을 반환하므로 기존 authentication.getName() 사용처는 그대로 동작한다.
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements Principal {
+
+    private final Long userId;
+    private final String email;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -1,55 +1,82 @@
 // src/main/java/com/example/navermapbackend/config/JwtAuthenticationFilter.java
 package com.example.navermapbackend.config;
 
-import com.example.navermapbackend.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private static final List<String> OUTCOMES =
+            List.of("anonymous", "cache_hit", "verified", "invalid", "revoked", "error");
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    // outcome 별 타이머는 고정이므로 생성 시 한 번만 등록 (요청마다 레지스트리 조회 없음)
+    private final Map<String, Timer> timers = new HashMap<>();
+
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache, MeterRegistry meterRegistry) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        for (String outcome : OUTCOMES) {
+            timers.put(outcome, Timer.builder("jwt.filter")
+                    .description("JWT 인증 필터 처리 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        String outcome = "anonymous";
         try {
             String token = getTokenFromRequest(request);
 
-            if (token != null && jwtUtil.validateToken(token)) {
-                String email = jwtUtil.getEmailFromSubject(token);
+            if (token != null) {
+                // 토큰은 요청당 한 번만 검증 (캐시 적중 시 서명 검증/파싱 생략)
+                VerifiedTokenCache.Verification verification = verifiedTokenCache.verify(token);
+                AuthenticatedUser principal = verification.user();
+                outcome = verification.revoked() ? "revoked"
+                        : principal == null ? "invalid"
+                        : verification.cacheHit() ? "cache_hit" : "verified";
 
-                if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // 간단한 Authentication 객체 생성
+                if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    // 토큰의 userId 를 담은 principal - 이후 서비스에서 이메일로 사용자를 다시 조회하지 않음
                     UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(email, null, new ArrayList<>());
+                            new UsernamePasswordAuthenticationToken(principal, null, new ArrayList<>());
 
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    log.debug("JWT 인증 성공: {}", email);
+                    log.debug("JWT 인증 성공: {}", principal.getEmail());
                 }
             }
         } catch (Exception e) {
+            outcome = "error";
             log.error("JWT 인증 필터 오류: {}", e.getMessage());
+        } finally {
+            // ⏱️ 인증 처리 시간 (다음 필터 체인 제외)
+            timers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
@@ -64,4 +91,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         return null;
     }
-}
\ No newline at end of file
+}
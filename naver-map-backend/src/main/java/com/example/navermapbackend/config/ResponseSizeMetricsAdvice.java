@@ -0,0 +1,95 @@
+package com.example.navermapbackend.config;
+
+import com.example.navermapbackend.dto.ApiResponse;
+import com.example.navermapbackend.dto.CursorPagedResponse;
+import com.example.navermapbackend.dto.MarkerBatchGetResponse;
+import com.example.navermapbackend.dto.MarkerChangesResponse;
+import com.example.navermapbackend.dto.MarkerTileResponse;
+import com.example.navermapbackend.dto.PagedResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 📊 목록 응답의 결과 건수 분포 (api.response.items, uri 태그)
+// 컨트롤러마다 따로 기록하지 않고, ApiResponse 본문이 직렬화되기 직전에 한 곳에서 센다.
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ResponseSizeMetricsAdvice implements ResponseBodyAdvice<Object> {
+
+    private final MeterRegistry meterRegistry;
+
+    // (method, uri) 별로 한 번만 등록해 두고 재사용 - 요청마다 빌더로 조회/등록하지 않음
+    private final Map<String, DistributionSummary> summariesByRoute = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof ApiResponse<?> apiResponse && apiResponse.isSuccess()
+                && request instanceof ServletServerHttpRequest servletRequest) {
+            int items = countItems(apiResponse.getData());
+            Object pattern = servletRequest.getServletRequest()
+                    .getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (items >= 0 && pattern != null) {
+                summaryFor(servletRequest.getMethod().name(), pattern.toString()).record(items);
+            }
+        }
+        return body;
+    }
+
+    private DistributionSummary summaryFor(String method, String uri) {
+        return summariesByRoute.computeIfAbsent(method + " " + uri,
+                key -> DistributionSummary.builder("api.response.items")
+                        .description("목록 응답의 결과 건수")
+                        .baseUnit("items")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(meterRegistry));
+    }
+
+    // 목록이 아닌 응답은 -1
+    private static int countItems(Object data) {
+        if (data instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (data instanceof PagedResponse<?> paged) {
+            return sizeOf(paged.getContent());
+        }
+        if (data instanceof CursorPagedResponse<?> cursorPaged) {
+            return sizeOf(cursorPaged.getContent());
+        }
+        if (data instanceof MarkerChangesResponse changes) {
+            return sizeOf(changes.getUpserts()) + sizeOf(changes.getDeletedIds());
+        }
+        if (data instanceof MarkerBatchGetResponse batch) {
+            return sizeOf(batch.getMarkers());
+        }
+        if (data instanceof MarkerTileResponse tile) {
+            return tile.isClustered() ? sizeOf(tile.getClusters()) : sizeOf(tile.getMarkers());
+        }
+        return -1;
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.navermapbackend.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -21,7 +30,38 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    // 📊 Actuator 전용 체인 - health 만 공개, 나머지(prometheus, metrics)는 수집기 계정(HTTP Basic)만 허용
+    // 비밀번호를 설정하지 않으면 수집기 계정이 없으므로 health 외의 엔드포인트는 모두 401
     @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   PasswordEncoder passwordEncoder,
+                                                   @Value("${metrics.scrape.username:prometheus}") String username,
+                                                   @Value("${metrics.scrape.password:}") String password) throws Exception {
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            scrapers.createUser(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles("METRICS")
+                    .build());
+        }
+
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .userDetailsService(scrapers)
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole("METRICS"));
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 // CSRF 비활성화 (API 서버이므로)
@@ -37,6 +77,10 @@ public class SecurityConfig {
                 // JWT 필터 추가
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+                // 토큰이 없거나 만료/폐기되면 401 (프론트엔드는 401 에서 토큰 갱신을 시도함)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+
                 // 🔒 요청 권한 설정 (보안 강화)
                 .authorizeHttpRequests(auth -> auth
                         // 🏠 홈페이지 및 헬스 체크
@@ -48,20 +92,31 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/refresh").permitAll()
 
                         // 🔒 인증 필요한 엔드포인트
-                        .requestMatchers("/api/auth/me", "/api/auth/logout").authenticated()
+                        .requestMatchers("/api/auth/me", "/api/auth/logout", "/api/auth/logout-all").authenticated()
 
                         // 📍 마커 관련 엔드포인트 (읽기는 공개, 쓰기는 인증 필요)
                         .requestMatchers(HttpMethod.GET, "/api/markers").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/markers/{id}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/markers/test").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/export").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/changes").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/subscribe").permitAll()
+                        .requestMatchers(HttpMethod.PUT, "/api/markers/subscribe/*").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/markers/category/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/markers/search").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/suggest").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/markers/area").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/markers/nearby").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/nearest").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/clusters").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/tiles/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/markers/paged").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/markers/paged/cursor").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/markers/batch-get").permitAll()
 
                         // 🔒 마커 생성/수정/삭제는 인증 필요
                         .requestMatchers(HttpMethod.POST, "/api/markers").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/markers/bulk").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/markers/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/markers/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/markers/my/**").authenticated()
@@ -79,8 +134,9 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // cost 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 재해싱된다 (AuthService)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.example.navermapbackend.config;
+
+import com.example.navermapbackend.service.TokenRevocationService;
+import com.example.navermapbackend.util.JwtUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 🎫 서명 검증이 끝난 JWT 캐시
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 쓰고, 각 항목은 토큰 만료 시각에 맞춰 제거된다.
+// 적중 시 HMAC 검증과 클레임(JSON) 파싱을 모두 건너뛴다.
+// 폐기 여부는 적중 여부와 관계없이 매번 메모리 폐기 목록으로 확인한다.
+@Component
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "verifiedJwt";
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final Cache<String, Entry> cache;
+
+    private record Entry(AuthenticatedUser user, String jti, long issuedAtMillis, long expiresAtMillis) {
+    }
+
+    // 검증 결과 (user 가 null 이면 인증 불가)
+    public record Verification(AuthenticatedUser user, boolean cacheHit, boolean revoked) {
+
+        static final Verification INVALID = new Verification(null, false, false);
+    }
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              TokenRevocationService tokenRevocationService,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        long remainingMs = entry.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Verification verify(String token) {
+        String key = digest(token);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return checkRevoked(cached, true);
+        }
+
+        // 요청당 한 번만 파싱 (서명 + 만료 검증 포함)
+        Claims claims;
+        try {
+            claims = jwtUtil.getClaims(token);
+        } catch (RuntimeException e) {
+            return Verification.INVALID;
+        }
+
+        String email = claims.getSubject();
+        Long userId = claims.get("userId", Long.class);
+        Date expiration = claims.getExpiration();
+        if (email == null || userId == null || expiration == null) {
+            return Verification.INVALID;
+        }
+
+        Date issuedAt = claims.getIssuedAt();
+        Entry entry = new Entry(new AuthenticatedUser(userId, email), claims.getId(),
+                issuedAt != null ? issuedAt.getTime() : 0L, expiration.getTime());
+        cache.put(key, entry);
+        return checkRevoked(entry, false);
+    }
+
+    private Verification checkRevoked(Entry entry, boolean cacheHit) {
+        if (tokenRevocationService.isRevoked(entry.jti(), entry.user().getUserId(), entry.issuedAtMillis())) {
+            return new Verification(null, cacheHit, true);
+        }
+        return new Verification(entry.user(), cacheHit, false);
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.navermapbackend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 📌 가상 스레드 고정(pinning) 감지 - virtual 프로필 전용
+// synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 붙잡으므로
+// JFR jdk.VirtualThreadPinned 이벤트를 구독해 지표와 로그(발생 위치)로 남긴다.
+@Slf4j
+@Component
+@Profile("virtual")
+public class VirtualThreadPinningMonitor {
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning-threshold-ms:20}") long thresholdMs) {
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("임계 시간 이상 캐리어 스레드에 고정된 가상 스레드 수")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감지 시작 - 임계 {}ms", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> stack = event.getStackTrace().getFrames();
+            for (int i = 0; i < Math.min(LOGGED_FRAMES, stack.size()); i++) {
+                RecordedFrame frame = stack.get(i);
+                frames.append("\n    at ")
+                        .append(frame.getMethod().getType().getName())
+                        .append('.')
+                        .append(frame.getMethod().getName())
+                        .append(':')
+                        .append(frame.getLineNumber());
+            }
+        }
+        log.warn("가상 스레드 고정 {}ms{}", event.getDuration().toMillis(), frames);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -1,16 +1,22 @@
 // src/main/java/com/example/navermapbackend/controller/AuthController.java
 package com.example.navermapbackend.controller;
 
+import com.example.navermapbackend.config.AuthenticatedUser;
 import com.example.navermapbackend.dto.LoginRequest;
 import com.example.navermapbackend.dto.LoginResponse;
 import com.example.navermapbackend.dto.RegisterRequest;
 import com.example.navermapbackend.dto.UserResponse;
 import com.example.navermapbackend.service.AuthService;
+import com.example.navermapbackend.service.PasswordHashingService;
+import com.example.navermapbackend.service.TokenRevocationService;
 import com.example.navermapbackend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.Cookie;
@@ -19,6 +25,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -29,6 +36,8 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenRevocationService tokenRevocationService;
 
     // 🔐 로그인
     @PostMapping("/login")
@@ -62,6 +71,8 @@ public class AuthController {
             log.info("로그인 성공: {}", user.getEmail());
             return ResponseEntity.ok(loginResponse);
 
+        } catch (RejectedExecutionException e) {
+            return hashingBusy("LOGIN_BUSY");
         } catch (Exception e) {
             log.error("로그인 실패: {}", e.getMessage());
 
@@ -97,6 +108,8 @@ public class AuthController {
             log.info("회원가입 성공: {}", user.getEmail());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (RejectedExecutionException e) {
+            return hashingBusy("REGISTRATION_BUSY");
         } catch (Exception e) {
             log.error("회원가입 실패: {}", e.getMessage());
 
@@ -131,12 +144,17 @@ public class AuthController {
         }
     }
 
-    // 🚪 로그아웃
+    // 🚪 로그아웃 (현재 access/refresh 토큰 폐기)
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletResponse response) {
+    public ResponseEntity<?> logout(HttpServletRequest request,
+                                    @CookieValue(value = "refreshToken", required = false) String refreshToken,
+                                    HttpServletResponse response) {
         try {
             log.info("로그아웃 요청");
 
+            revokeQuietly(getTokenFromRequest(request));
+            revokeQuietly(refreshToken);
+
             // Refresh Token 쿠키 제거
             Cookie refreshCookie = new Cookie("refreshToken", "");
             refreshCookie.setHttpOnly(true);
@@ -161,6 +179,42 @@ public class AuthController {
         }
     }
 
+    // 🚪 모든 기기에서 로그아웃 (이전에 발급된 토큰 전체 폐기)
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(Authentication authentication, HttpServletResponse response) {
+        try {
+            if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser currentUser)) {
+                Map<String, String> errorResponse = new HashMap<>();
+                errorResponse.put("message", "인증되지 않은 사용자입니다.");
+                errorResponse.put("error", "UNAUTHORIZED");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+            }
+
+            tokenRevocationService.revokeAllForUser(currentUser.getUserId());
+
+            Cookie refreshCookie = new Cookie("refreshToken", "");
+            refreshCookie.setHttpOnly(true);
+            refreshCookie.setSecure(false);
+            refreshCookie.setPath("/");
+            refreshCookie.setMaxAge(0);
+            response.addCookie(refreshCookie);
+
+            Map<String, String> responseBody = new HashMap<>();
+            responseBody.put("message", "모든 기기에서 로그아웃되었습니다.");
+
+            return ResponseEntity.ok(responseBody);
+
+        } catch (Exception e) {
+            log.error("전체 로그아웃 실패: {}", e.getMessage());
+
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("message", "로그아웃에 실패했습니다.");
+            errorResponse.put("error", "LOGOUT_FAILED");
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
     // 👤 현재 사용자 정보 조회 (JWT에서 이메일 추출)
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser(HttpServletRequest request) {
@@ -212,8 +266,17 @@ public class AuthController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
             }
 
+            // 로그아웃으로 폐기된 토큰인지 확인
+            Claims claims = jwtUtil.getClaims(refreshToken);
+            if (tokenRevocationService.isRevoked(claims)) {
+                Map<String, String> errorResponse = new HashMap<>();
+                errorResponse.put("message", "폐기된 refresh token입니다.");
+                errorResponse.put("error", "REVOKED_REFRESH_TOKEN");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+            }
+
             // 새로운 Access Token 생성
-            Long userId = jwtUtil.getUserIdFromToken(refreshToken);
+            Long userId = claims.get("userId", Long.class);
 
             // 사용자 정보로 이메일 가져오기
             UserResponse user = authService.getUserById(userId);
@@ -270,6 +333,31 @@ public class AuthController {
         }
     }
 
+    // ⏳ 비밀번호 해싱 대기열 초과 - 잠시 후 재시도 안내
+    private ResponseEntity<?> hashingBusy(String error) {
+        log.warn("비밀번호 해싱 대기열 초과 또는 시간 초과: {}", error);
+
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        errorResponse.put("error", error);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordHashingService.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    // 토큰 폐기 (이미 만료되었거나 형식이 잘못된 토큰은 폐기할 필요 없음)
+    private void revokeQuietly(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        try {
+            tokenRevocationService.revoke(jwtUtil.getClaims(token));
+        } catch (RuntimeException e) {
+            log.debug("토큰 폐기 생략: {}", e.getMessage());
+        }
+    }
+
     // Authorization 헤더에서 토큰 추출 유틸리티 메서드
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
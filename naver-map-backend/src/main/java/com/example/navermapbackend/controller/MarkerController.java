@@ -1,22 +1,48 @@
 package com.example.navermapbackend.controller;
 
+import com.example.navermapbackend.config.AuthenticatedUser;
 import com.example.navermapbackend.dto.ApiResponse;
+import com.example.navermapbackend.dto.MarkerBatchGetRequest;
+import com.example.navermapbackend.dto.MarkerBatchGetResponse;
+import com.example.navermapbackend.dto.MarkerBulkImportResponse;
+import com.example.navermapbackend.dto.CursorPagedResponse;
+import com.example.navermapbackend.dto.MarkerChangesResponse;
+import com.example.navermapbackend.dto.MarkerClusterResponse;
 import com.example.navermapbackend.dto.MarkerRequest;
 import com.example.navermapbackend.dto.MarkerResponse;
+import com.example.navermapbackend.dto.MarkerSuggestionResponse;
+import com.example.navermapbackend.dto.MarkerTileResponse;
+import com.example.navermapbackend.dto.NearestMarkerResponse;
 import com.example.navermapbackend.dto.PagedResponse;
+import com.example.navermapbackend.index.MarkerTitleTrie;
+import com.example.navermapbackend.service.MarkerBulkImportService;
+import com.example.navermapbackend.service.MarkerClusterService;
+import com.example.navermapbackend.service.MarkerExportService;
 import com.example.navermapbackend.service.MarkerService;
+import com.example.navermapbackend.service.MarkerSubscriptionService;
+import com.example.navermapbackend.service.MarkerTileService;
+import com.example.navermapbackend.sql.SqlBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -26,6 +52,12 @@ import java.util.List;
 public class MarkerController {
 
     private final MarkerService markerService;
+    private final MarkerClusterService markerClusterService;
+    private final MarkerTileService markerTileService;
+    private final MarkerExportService markerExportService;
+    private final MarkerSubscriptionService markerSubscriptionService;
+    private final MarkerBulkImportService markerBulkImportService;
+    private final ObjectMapper objectMapper;
 
     // 🧪 테스트 엔드포인트 (크롬 디버깅용 강화)
     @GetMapping("/test")
@@ -46,6 +78,7 @@ public class MarkerController {
 
     // 📍 모든 마커 조회 (크롬 호환성 개선)
     @GetMapping
+    @SqlBudget(statements = 1)
     public ResponseEntity<ApiResponse<List<MarkerResponse>>> getAllMarkers() {
         try {
             log.info("🔍 [GET] 모든 마커 조회 요청 시작");
@@ -69,6 +102,100 @@ public class MarkerController {
         }
     }
 
+    // 📍 모든 마커 스트리밍 조회 (?stream=true, 전체 목록을 메모리에 올리지 않음)
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllMarkers() {
+        log.info("🔍 [GET] 모든 마커 스트리밍 조회 요청 시작");
+
+        StreamingResponseBody body = markerExportService::streamAllAsApiResponse;
+        return ResponseEntity.ok()
+                .header("Content-Type", "application/json;charset=UTF-8")
+                .body(body);
+    }
+
+    // 📤 마커 내보내기 (공개, NDJSON / GeoJSON / CSV 스트리밍)
+    // 반환 타입이 ResponseEntity<?> 이면 Spring 이 StreamingResponseBody 를 스트리밍으로 처리하지 못하므로 본문 타입을 명시
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMarkers(@RequestParam(defaultValue = "ndjson") String format) {
+        MarkerExportService.ExportFormat exportFormat;
+        try {
+            exportFormat = MarkerExportService.ExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            ApiResponse<Object> error = ApiResponse.error(e.getMessage(), "INVALID_EXPORT_FORMAT");
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+
+        log.info("📤 [EXPORT] 마커 내보내기 요청 - 형식: {}", exportFormat);
+        StreamingResponseBody body = out -> markerExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .header("Content-Type", exportFormat.getContentType())
+                .header("Content-Disposition", "attachment; filename=\"markers." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // 📡 영역 내 마커 변경 실시간 구독 (공개, Server-Sent Events)
+    // 반환 타입이 ResponseEntity<?> 이면 Spring 이 SseEmitter 를 스트리밍으로 처리하지 못하므로 본문 타입을 명시
+    @GetMapping("/subscribe")
+    public ResponseEntity<ResponseBodyEmitter> subscribeMarkerChanges(
+            @RequestParam Double minLat,
+            @RequestParam Double maxLat,
+            @RequestParam Double minLng,
+            @RequestParam Double maxLng) throws IOException {
+        if (!isValidViewport(minLat, maxLat, minLng, maxLng)) {
+            // 오류 본문도 같은 emitter 로 JSON 한 건을 보내고 바로 종료
+            ResponseBodyEmitter error = new ResponseBodyEmitter();
+            error.send(ApiResponse.error("유효하지 않은 영역 좌표입니다.", "INVALID_COORDINATES"),
+                    MediaType.APPLICATION_JSON);
+            error.complete();
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(error);
+        }
+
+        SseEmitter emitter = markerSubscriptionService.subscribe(
+                new MarkerSubscriptionService.Viewport(minLat, maxLat, minLng, maxLng));
+        return ResponseEntity.ok()
+                .header("Content-Type", "text/event-stream;charset=UTF-8")
+                .header("Cache-Control", "no-cache")
+                .header("X-Accel-Buffering", "no") // 프록시 버퍼링 비활성화
+                .body(emitter);
+    }
+
+    // 🗺️ 구독 영역 변경 (지도 이동 시 재연결 없이)
+    @PutMapping("/subscribe/{subscriptionId}")
+    public ResponseEntity<ApiResponse<String>> updateSubscriptionViewport(
+            @PathVariable String subscriptionId,
+            @RequestParam Double minLat,
+            @RequestParam Double maxLat,
+            @RequestParam Double minLng,
+            @RequestParam Double maxLng) {
+        if (!isValidViewport(minLat, maxLat, minLng, maxLng)) {
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("유효하지 않은 영역 좌표입니다.", "INVALID_COORDINATES"));
+        }
+
+        boolean updated = markerSubscriptionService.updateViewport(subscriptionId,
+                new MarkerSubscriptionService.Viewport(minLat, maxLat, minLng, maxLng));
+        if (!updated) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("구독을 찾을 수 없습니다.", "SUBSCRIPTION_NOT_FOUND"));
+        }
+
+        return ResponseEntity.ok()
+                .header("Content-Type", "application/json;charset=UTF-8")
+                .body(ApiResponse.success(subscriptionId, "구독 영역 변경 성공"));
+    }
+
+    private boolean isValidViewport(Double minLat, Double maxLat, Double minLng, Double maxLng) {
+        return minLat <= maxLat && minLng <= maxLng
+                && minLat >= -90.0 && maxLat <= 90.0
+                && minLng >= -180.0 && maxLng <= 180.0;
+    }
+
     // ✅ 크롬 전용 디버깅 엔드포인트 추가
     @GetMapping("/debug/chrome")
     public ResponseEntity<ApiResponse<Object>> chromeDebug() {
@@ -122,14 +249,15 @@ public class MarkerController {
             @Valid @RequestBody MarkerRequest request,
             Authentication authentication) {
         try {
-            if (authentication == null || authentication.getName() == null) {
+            AuthenticatedUser currentUser = currentUser(authentication);
+            if (currentUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .header("Content-Type", "application/json;charset=UTF-8")
                         .body(ApiResponse.error("인증이 필요합니다.", "AUTHENTICATION_REQUIRED"));
             }
 
-            String userEmail = authentication.getName();
-            MarkerResponse marker = markerService.createMarker(request, userEmail);
+            String userEmail = currentUser.getEmail();
+            MarkerResponse marker = markerService.createMarker(request, currentUser.getUserId());
 
             log.info("마커 생성 성공 - 사용자: {}, 마커 ID: {}", userEmail, marker.getId());
             return ResponseEntity.status(HttpStatus.CREATED)
@@ -144,8 +272,83 @@ public class MarkerController {
         }
     }
 
+    // 📦 ID 목록으로 마커 일괄 조회 (공개, 북마크 목록 등 - 한 번의 요청/쿼리)
+    @PostMapping("/batch-get")
+    @SqlBudget(statements = 1)
+    public ResponseEntity<ApiResponse<MarkerBatchGetResponse>> batchGetMarkers(
+            @RequestBody MarkerBatchGetRequest request) {
+        try {
+            if (request.getIds() == null || request.getIds().isEmpty()) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("조회할 마커 ID가 필요합니다.", "INVALID_IDS"));
+            }
+            if (request.getIds().size() > MarkerService.MAX_BATCH_IDS) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("한 번에 최대 " + MarkerService.MAX_BATCH_IDS + "개까지 조회할 수 있습니다.",
+                                "TOO_MANY_IDS"));
+            }
+
+            MarkerBatchGetResponse response = markerService.getMarkersByIds(request.getIds(), request.getFields());
+
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-Found-Count", String.valueOf(response.getMarkers().size()))
+                    .header("X-Missing-Count", String.valueOf(response.getMissingIds().size()))
+                    .body(ApiResponse.success(response, "마커 일괄 조회 성공"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_FIELDS"));
+        } catch (Exception e) {
+            log.error("마커 일괄 조회 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("마커 일괄 조회에 실패했습니다.", "BATCH_GET_FAILED"));
+        }
+    }
+
+    // 🔒 마커 대량 가져오기 (인증 필요, JSON 배열 또는 CSV 본문을 스트리밍으로 처리)
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<MarkerBulkImportResponse>> bulkImportMarkers(
+            HttpServletRequest request,
+            Authentication authentication) {
+        try {
+            AuthenticatedUser currentUser = currentUser(authentication);
+            if (currentUser == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("인증이 필요합니다.", "AUTHENTICATION_REQUIRED"));
+            }
+
+            MarkerBulkImportService.ImportFormat format =
+                    MarkerBulkImportService.ImportFormat.fromContentType(request.getContentType());
+            MarkerBulkImportResponse response =
+                    markerBulkImportService.importMarkers(request.getInputStream(), format, currentUser.getUserId());
+
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-Imported-Count", String.valueOf(response.getImportedCount()))
+                    .header("X-Failed-Count", String.valueOf(response.getFailedCount()))
+                    .body(ApiResponse.success(response, "마커 대량 가져오기 완료"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_BULK_INPUT"));
+        } catch (Exception e) {
+            log.error("마커 대량 가져오기 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("마커 대량 가져오기에 실패했습니다.", "MARKER_BULK_IMPORT_FAILED"));
+        }
+    }
+
     // 📍 특정 마커 조회 (공개)
     @GetMapping("/{id}")
+    @SqlBudget(statements = 1)
     public ResponseEntity<ApiResponse<MarkerResponse>> getMarkerById(@PathVariable Long id) {
         try {
             MarkerResponse marker = markerService.getMarkerById(id);
@@ -172,14 +375,15 @@ public class MarkerController {
             @Valid @RequestBody MarkerRequest request,
             Authentication authentication) {
         try {
-            if (authentication == null || authentication.getName() == null) {
+            AuthenticatedUser currentUser = currentUser(authentication);
+            if (currentUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .header("Content-Type", "application/json;charset=UTF-8")
                         .body(ApiResponse.error("인증이 필요합니다.", "AUTHENTICATION_REQUIRED"));
             }
 
-            String userEmail = authentication.getName();
-            MarkerResponse marker = markerService.updateMarker(id, request, userEmail);
+            String userEmail = currentUser.getEmail();
+            MarkerResponse marker = markerService.updateMarker(id, request, currentUser.getUserId());
 
             log.info("마커 수정 성공 - 사용자: {}, 마커 ID: {}", userEmail, id);
             return ResponseEntity.ok()
@@ -205,14 +409,15 @@ public class MarkerController {
             @PathVariable Long id,
             Authentication authentication) {
         try {
-            if (authentication == null || authentication.getName() == null) {
+            AuthenticatedUser currentUser = currentUser(authentication);
+            if (currentUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .header("Content-Type", "application/json;charset=UTF-8")
                         .body(ApiResponse.error("인증이 필요합니다.", "AUTHENTICATION_REQUIRED"));
             }
 
-            String userEmail = authentication.getName();
-            markerService.deleteMarker(id, userEmail);
+            String userEmail = currentUser.getEmail();
+            markerService.deleteMarker(id, currentUser.getUserId());
 
             log.info("마커 삭제 성공 - 사용자: {}, 마커 ID: {}", userEmail, id);
             return ResponseEntity.ok()
@@ -234,16 +439,17 @@ public class MarkerController {
 
     // 🔒 사용자별 마커 조회 (인증 필요)
     @GetMapping("/my")
+    @SqlBudget(statements = 1)
     public ResponseEntity<ApiResponse<List<MarkerResponse>>> getMyMarkers(Authentication authentication) {
         try {
-            if (authentication == null || authentication.getName() == null) {
+            AuthenticatedUser currentUser = currentUser(authentication);
+            if (currentUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .header("Content-Type", "application/json;charset=UTF-8")
                         .body(ApiResponse.error("인증이 필요합니다.", "AUTHENTICATION_REQUIRED"));
             }
 
-            String userEmail = authentication.getName();
-            List<MarkerResponse> markers = markerService.getMarkersByUser(userEmail);
+            List<MarkerResponse> markers = markerService.getMarkersByUser(currentUser.getUserId());
 
             return ResponseEntity.ok()
                     .header("Content-Type", "application/json;charset=UTF-8")
@@ -260,6 +466,7 @@ public class MarkerController {
 
     // 🔍 카테고리별 마커 조회 (공개)
     @GetMapping("/category/{category}")
+    @SqlBudget(statements = 1)
     public ResponseEntity<ApiResponse<List<MarkerResponse>>> getMarkersByCategory(@PathVariable String category) {
         try {
             List<MarkerResponse> markers = markerService.getMarkersByCategory(category);
@@ -278,6 +485,7 @@ public class MarkerController {
 
     // 🔍 키워드 검색 (공개)
     @GetMapping("/search")
+    @SqlBudget(statements = 1)
     public ResponseEntity<ApiResponse<List<MarkerResponse>>> searchMarkers(@RequestParam String keyword) {
         try {
             if (keyword == null || keyword.trim().isEmpty()) {
@@ -301,8 +509,47 @@ public class MarkerController {
         }
     }
 
+    // ⌨️ 제목 자동완성 (공개, 검색창 입력마다 호출)
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<MarkerSuggestionResponse>>> suggestMarkers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            if (prefix == null || prefix.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("검색어를 입력해주세요.", "PREFIX_REQUIRED"));
+            }
+
+            if (limit <= 0 || limit > MarkerTitleTrie.TOP_K) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("limit은 1 이상 " + MarkerTitleTrie.TOP_K + " 이하여야 합니다.",
+                                "INVALID_LIMIT"));
+            }
+
+            List<MarkerSuggestionResponse> suggestions = markerService.suggestTitles(prefix, limit);
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-Suggest-Results", String.valueOf(suggestions.size()))
+                    .body(ApiResponse.success(suggestions, "자동완성 조회 성공"));
+
+        } catch (IllegalStateException e) {
+            log.warn("자동완성 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error(e.getMessage(), "INDEX_NOT_READY"));
+        } catch (Exception e) {
+            log.error("자동완성 조회 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("자동완성 조회에 실패했습니다.", "SUGGEST_FAILED"));
+        }
+    }
+
     // 🔍 위치 기반 마커 검색 (공개)
     @GetMapping("/area")
+    @SqlBudget(statements = 1)
     public ResponseEntity<ApiResponse<List<MarkerResponse>>> getMarkersInArea(
             @RequestParam Double minLat,
             @RequestParam Double maxLat,
@@ -332,6 +579,7 @@ public class MarkerController {
 
     // 🔍 반경 내 마커 검색 (공개)
     @GetMapping("/nearby")
+    @SqlBudget(statements = 1)
     public ResponseEntity<ApiResponse<List<MarkerResponse>>> getMarkersNearby(
             @RequestParam Double lat,
             @RequestParam Double lng,
@@ -365,8 +613,127 @@ public class MarkerController {
         }
     }
 
+    // 🎯 가장 가까운 마커 k개 조회 (공개)
+    @GetMapping("/nearest")
+    public ResponseEntity<ApiResponse<List<NearestMarkerResponse>>> getNearestMarkers(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(defaultValue = "20") int k,
+            @RequestParam(required = false) String category) {
+        try {
+            // 파라미터 유효성 검사
+            if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("유효하지 않은 좌표입니다.", "INVALID_COORDINATES"));
+            }
+
+            if (k <= 0 || k > 100) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("k는 1 이상 100 이하여야 합니다.", "INVALID_K"));
+            }
+
+            String categoryFilter = (category == null || category.isBlank()) ? null : category;
+            List<NearestMarkerResponse> markers = markerService.getNearestMarkers(lat, lng, k, categoryFilter);
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-Nearest-Results", String.valueOf(markers.size()))
+                    .body(ApiResponse.success(markers, "최근접 마커 검색 성공"));
+
+        } catch (IllegalStateException e) {
+            log.warn("최근접 마커 검색 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error(e.getMessage(), "INDEX_NOT_READY"));
+        } catch (Exception e) {
+            log.error("최근접 마커 검색 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("최근접 마커 검색에 실패했습니다.", "NEAREST_SEARCH_FAILED"));
+        }
+    }
+
+    // 🗺️ 줌 레벨별 마커 클러스터 조회 (공개)
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<List<MarkerClusterResponse>>> getMarkerClusters(
+            @RequestParam Double minLat,
+            @RequestParam Double maxLat,
+            @RequestParam Double minLng,
+            @RequestParam Double maxLng,
+            @RequestParam int zoom) {
+        try {
+            // 파라미터 유효성 검사
+            if (minLat > maxLat || minLng > maxLng) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("유효하지 않은 영역 좌표입니다.", "INVALID_COORDINATES"));
+            }
+
+            if (zoom < MarkerClusterService.MIN_ZOOM || zoom > MarkerClusterService.MAX_ZOOM) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("줌 레벨은 0 이상 21 이하여야 합니다.", "INVALID_ZOOM"));
+            }
+
+            List<MarkerClusterResponse> clusters =
+                    markerClusterService.getClusters(minLat, maxLat, minLng, maxLng, zoom);
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-Cluster-Count", String.valueOf(clusters.size()))
+                    .body(ApiResponse.success(clusters, "마커 클러스터 조회 성공"));
+
+        } catch (Exception e) {
+            log.error("마커 클러스터 조회 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("마커 클러스터 조회에 실패했습니다.", "CLUSTER_FETCH_FAILED"));
+        }
+    }
+
+    // 🧱 지도 타일 단위 마커 조회 (공개, 브라우저/프록시 캐시 가능)
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<ApiResponse<MarkerTileResponse>> getMarkerTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        try {
+            if (!MarkerTileService.isValidTile(z, x, y)) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("유효하지 않은 타일 좌표입니다.", "INVALID_TILE"));
+            }
+
+            MarkerTileService.CachedTile tile = markerTileService.getTile(z, x, y);
+            CacheControl cacheControl = CacheControl.maxAge(30, TimeUnit.SECONDS).cachePublic().mustRevalidate();
+
+            // If-None-Match: * 는 Spring 이 GET 에서 304 로 처리하지 않으므로 직접 응답 (타일은 항상 존재)
+            if (ifNoneMatch != null && ifNoneMatch.trim().equals("*")) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(tile.getEtag())
+                        .cacheControl(cacheControl)
+                        .build();
+            }
+
+            // 그 밖의 If-None-Match 비교(목록, W/ 약한 태그)는 Spring 이 ETag 를 보고 처리해 304 로 응답
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .eTag(tile.getEtag())
+                    .cacheControl(cacheControl)
+                    .body(tile.getBody());
+
+        } catch (Exception e) {
+            log.error("타일 조회 오류 - {}/{}/{}, 오류: {}", z, x, y, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("타일 조회에 실패했습니다.", "TILE_FETCH_FAILED"));
+        }
+    }
+
     // 📄 페이징된 마커 조회 (공개)
     @GetMapping("/paged")
+    @SqlBudget(statements = 2)
     public ResponseEntity<ApiResponse<PagedResponse<MarkerResponse>>> getMarkersWithPaging(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -403,8 +770,44 @@ public class MarkerController {
         }
     }
 
+    // 📄 커서 기반 마커 조회 (공개, 무한 스크롤용)
+    @GetMapping("/paged/cursor")
+    @SqlBudget(statements = 2)
+    public ResponseEntity<ApiResponse<CursorPagedResponse<MarkerResponse>>> getMarkersWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            if (size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("유효하지 않은 페이지 파라미터입니다.", "INVALID_PAGE_PARAMS"));
+            }
+
+            CursorPagedResponse<MarkerResponse> response =
+                    markerService.getMarkersWithCursor(cursor, size, includeTotal);
+
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-Page-Size", String.valueOf(response.getSize()))
+                    .header("X-Has-Next", String.valueOf(response.isHasNext()))
+                    .body(ApiResponse.success(response, "커서 기반 마커 조회 성공"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_CURSOR"));
+        } catch (Exception e) {
+            log.error("커서 기반 마커 조회 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("커서 기반 마커 조회에 실패했습니다.", "CURSOR_FETCH_FAILED"));
+        }
+    }
+
     // 🔒 사용자별 페이징된 마커 조회 (인증 필요)
     @GetMapping("/my/paged")
+    @SqlBudget(statements = 2)
     public ResponseEntity<ApiResponse<PagedResponse<MarkerResponse>>> getMyMarkersWithPaging(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -412,7 +815,8 @@ public class MarkerController {
             @RequestParam(defaultValue = "desc") String sortDir,
             Authentication authentication) {
         try {
-            if (authentication == null || authentication.getName() == null) {
+            AuthenticatedUser currentUser = currentUser(authentication);
+            if (currentUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .header("Content-Type", "application/json;charset=UTF-8")
                         .body(ApiResponse.error("인증이 필요합니다.", "AUTHENTICATION_REQUIRED"));
@@ -430,8 +834,8 @@ public class MarkerController {
                     : Sort.by(sortBy).ascending();
 
             Pageable pageable = PageRequest.of(page, size, sort);
-            String userEmail = authentication.getName();
-            PagedResponse<MarkerResponse> response = markerService.getUserMarkersWithPaging(userEmail, pageable);
+            String userEmail = currentUser.getEmail();
+            PagedResponse<MarkerResponse> response = markerService.getUserMarkersWithPaging(currentUser.getUserId(), pageable);
 
             return ResponseEntity.ok()
                     .header("Content-Type", "application/json;charset=UTF-8")
@@ -447,4 +851,87 @@ public class MarkerController {
                     .body(ApiResponse.error("마커 조회에 실패했습니다.", "USER_PAGED_FETCH_FAILED"));
         }
     }
+
+    // 🔒 사용자별 커서 기반 마커 조회 (인증 필요)
+    @GetMapping("/my/paged/cursor")
+    @SqlBudget(statements = 2)
+    public ResponseEntity<ApiResponse<CursorPagedResponse<MarkerResponse>>> getMyMarkersWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
+        try {
+            AuthenticatedUser currentUser = currentUser(authentication);
+            if (currentUser == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("인증이 필요합니다.", "AUTHENTICATION_REQUIRED"));
+            }
+
+            if (size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("유효하지 않은 페이지 파라미터입니다.", "INVALID_PAGE_PARAMS"));
+            }
+
+            String userEmail = currentUser.getEmail();
+            CursorPagedResponse<MarkerResponse> response =
+                    markerService.getUserMarkersWithCursor(currentUser.getUserId(), cursor, size, includeTotal);
+
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-User-Email", userEmail)
+                    .header("X-Has-Next", String.valueOf(response.isHasNext()))
+                    .body(ApiResponse.success(response, "내 마커 커서 조회 성공"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_CURSOR"));
+        } catch (Exception e) {
+            log.error("사용자 마커 커서 조회 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("마커 조회에 실패했습니다.", "USER_CURSOR_FETCH_FAILED"));
+        }
+    }
+
+    // 🔄 변경 동기화 - since 토큰 이후 변경분(수정 + 삭제 툼스톤)만 조회 (공개)
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<MarkerChangesResponse>> getMarkerChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        try {
+            if (limit <= 0 || limit > 1000) {
+                return ResponseEntity.badRequest()
+                        .header("Content-Type", "application/json;charset=UTF-8")
+                        .body(ApiResponse.error("limit 은 1~1000 사이여야 합니다.", "INVALID_LIMIT"));
+            }
+
+            MarkerChangesResponse response = markerService.getChanges(since, limit);
+
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .header("X-Full-Sync", String.valueOf(response.isFullSync()))
+                    .header("X-Has-More", String.valueOf(response.isHasMore()))
+                    .body(ApiResponse.success(response, "마커 변경 내역 조회 성공"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_SYNC_TOKEN"));
+        } catch (Exception e) {
+            log.error("마커 변경 내역 조회 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header("Content-Type", "application/json;charset=UTF-8")
+                    .body(ApiResponse.error("마커 변경 내역 조회에 실패했습니다.", "CHANGES_FETCH_FAILED"));
+        }
+    }
+
+    // 🔑 JWT 필터가 설정한 인증 사용자 (userId 포함), 없으면 null
+    private static AuthenticatedUser currentUser(Authentication authentication) {
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user
+                : null;
+    }
 }
\ No newline at end of file
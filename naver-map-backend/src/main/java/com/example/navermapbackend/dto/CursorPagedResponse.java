@@ -0,0 +1,15 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class CursorPagedResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;    // 다음 페이지 요청 시 전달할 불투명 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private Long totalElements;   // includeTotal=true 인 경우에만 채워짐
+}
@@ -0,0 +1,10 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class MarkerBatchGetRequest {
+    private List<Long> ids;       // 조회할 마커 ID (최대 500개, 요청 순서대로 응답)
+    private List<String> fields;  // 응답에 포함할 필드 (생략 시 전체, id 는 항상 포함)
+}
@@ -0,0 +1,13 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class MarkerBatchGetResponse {
+    private List<Map<String, Object>> markers; // 요청한 ID 순서, 선택한 필드만 포함
+    private List<Long> missingIds;             // 존재하지 않거나 삭제된 ID
+}
@@ -0,0 +1,25 @@
+package com.example.navermapbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class MarkerBulkImportResponse {
+    private int totalRows;
+    private int importedCount;
+    private int failedCount;
+    private List<RowError> errors;     // 행 번호(1부터, CSV 헤더 제외)별 오류 - 최대 1000건
+    private boolean errorsTruncated;
+    private String abortReason;        // 입력 형식 오류로 중간에 중단된 경우 (이전 행은 저장됨)
+    private long elapsedMs;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String message;
+    }
+}
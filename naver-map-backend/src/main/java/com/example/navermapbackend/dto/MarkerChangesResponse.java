@@ -0,0 +1,15 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class MarkerChangesResponse {
+    private List<MarkerResponse> upserts;  // 생성/수정된 마커 (변경 순)
+    private List<Long> deletedIds;         // 삭제된 마커 ID (툼스톤)
+    private String nextToken;              // 다음 요청의 since 로 전달할 불투명 토큰
+    private boolean hasMore;               // true 면 nextToken 으로 즉시 이어서 요청
+    private boolean fullSync;              // true 면 upserts 가 전체 목록이므로 로컬 데이터를 교체
+}
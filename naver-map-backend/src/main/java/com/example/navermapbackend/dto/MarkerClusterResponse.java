@@ -0,0 +1,16 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.Map;
+
+@Data
+@Builder
+public class MarkerClusterResponse {
+
+    private Double latitude;   // 클러스터 중심 (소속 마커 평균 좌표)
+    private Double longitude;
+    private int count;         // 소속 마커 수
+    private Map<String, Integer> categories; // 카테고리별 마커 수
+    private Long markerId;     // 단일 마커 클러스터인 경우 해당 마커 ID
+}
@@ -0,0 +1,13 @@
+package com.example.navermapbackend.dto;
+
+import com.example.navermapbackend.event.MarkerSnapshot;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MarkerPushMessage {
+    private String type;           // created / updated / deleted (구독 영역 기준)
+    private Long markerId;
+    private MarkerSnapshot marker; // deleted 인 경우 null
+}
@@ -0,0 +1,15 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MarkerSuggestionResponse {
+
+    private Long id;
+    private String title;
+    private String category;
+    private Double latitude;
+    private Double longitude;
+}
@@ -0,0 +1,17 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class MarkerTileResponse {
+
+    private int z;
+    private int x;
+    private int y;
+    private boolean clustered;                    // true 이면 clusters, false 이면 markers 사용
+    private List<MarkerClusterResponse> clusters;
+    private List<MarkerResponse> markers;
+}
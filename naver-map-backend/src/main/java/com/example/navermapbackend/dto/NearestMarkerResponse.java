@@ -0,0 +1,12 @@
+package com.example.navermapbackend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NearestMarkerResponse {
+
+    private MarkerResponse marker;
+    private double distanceKm; // 기준 좌표로부터의 대권 거리
+}
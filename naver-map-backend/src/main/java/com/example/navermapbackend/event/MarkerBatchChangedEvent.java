@@ -0,0 +1,15 @@
+package com.example.navermapbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 🔔 한 트랜잭션에서 일어난 여러 마커 변경 (대량 가져오기 청크 단위)
+// 건별 MarkerChangedEvent 대신 한 번에 전달해 타일 캐시 등이 청크당 한 번만 무효화하도록 한다.
+@Getter
+@AllArgsConstructor
+public class MarkerBatchChangedEvent {
+
+    private final List<MarkerChangedEvent> changes;
+}
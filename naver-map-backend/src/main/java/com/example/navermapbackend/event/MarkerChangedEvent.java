@@ -0,0 +1,29 @@
+package com.example.navermapbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 🔔 마커 생성/수정/삭제 이벤트 (커밋 이후 인메모리 인덱스 동기화에 사용)
+@Getter
+@AllArgsConstructor
+public class MarkerChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long markerId;
+    private final MarkerSnapshot previous; // CREATED 인 경우 null
+    private final MarkerSnapshot current;  // DELETED 인 경우 null
+
+    public static MarkerChangedEvent created(MarkerSnapshot current) {
+        return new MarkerChangedEvent(Type.CREATED, current.getId(), null, current);
+    }
+
+    public static MarkerChangedEvent updated(MarkerSnapshot previous, MarkerSnapshot current) {
+        return new MarkerChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static MarkerChangedEvent deleted(MarkerSnapshot previous) {
+        return new MarkerChangedEvent(Type.DELETED, previous.getId(), previous, null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.navermapbackend.event;
+
+import com.example.navermapbackend.model.Marker;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 📸 인메모리 인덱스용 마커 스냅샷 (엔티티/지연로딩과 분리된 불변 값)
+@Getter
+@AllArgsConstructor
+public class MarkerSnapshot {
+
+    private final Long id;
+    private final Double latitude;
+    private final Double longitude;
+    private final String title;
+    private final String description;
+    private final String category;
+    private final LocalDateTime updatedAt;
+
+    public static MarkerSnapshot from(Marker marker) {
+        return new MarkerSnapshot(
+                marker.getId(),
+                marker.getLatitude(),
+                marker.getLongitude(),
+                marker.getTitle(),
+                marker.getDescription(),
+                marker.getCategory(),
+                marker.getUpdatedAt());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+
+// 🗂️ 마커 쓰기와 동기화되는 인메모리 인덱스 공통 인터페이스
+public interface MarkerIndex {
+
+    // 전체 재구축 (애플리케이션 시작 시)
+    void rebuild(Collection<MarkerSnapshot> markers);
+
+    // 커밋된 변경 사항 반영
+    void apply(MarkerChangedEvent event);
+
+    // 한 트랜잭션의 여러 변경을 한 번에 반영 (대량 가져오기) - 기본은 한 건씩 apply
+    default void applyAll(List<MarkerChangedEvent> events) {
+        for (MarkerChangedEvent event : events) {
+            apply(event);
+        }
+    }
+
+    // 재구축 완료 여부 (완료 전에는 DB 조회로 대체)
+    boolean isReady();
+}
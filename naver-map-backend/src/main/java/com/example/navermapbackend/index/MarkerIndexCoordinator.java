@@ -0,0 +1,65 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.event.MarkerBatchChangedEvent;
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.example.navermapbackend.repository.MarkerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 🔄 모든 MarkerIndex 의 초기 적재와 변경 이벤트 전파를 담당
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkerIndexCoordinator implements SmartInitializingSingleton {
+
+    private final MarkerRepository markerRepository;
+    private final List<MarkerIndex> indexes;
+
+    // data.sql 초기화 이후, 웹 서버가 요청을 받기 전에 실행됨
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildAll();
+    }
+
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        List<MarkerSnapshot> snapshots = markerRepository.findAllSnapshots();
+        for (MarkerIndex index : indexes) {
+            index.rebuild(snapshots);
+        }
+        log.info("마커 인덱스 {}개 재구축 완료 - 마커 {}개, {}ms",
+                indexes.size(), snapshots.size(), System.currentTimeMillis() - start);
+    }
+
+    // 커밋 이후에만 반영 (롤백된 변경이 인덱스에 남지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMarkerChanged(MarkerChangedEvent event) {
+        for (MarkerIndex index : indexes) {
+            try {
+                index.apply(event);
+            } catch (Exception e) {
+                log.error("마커 인덱스 반영 실패 - {} / 마커 ID: {}, 오류: {}",
+                        index.getClass().getSimpleName(), event.getMarkerId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    // 대량 가져오기 청크 - 인덱스마다 한 번에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMarkersChanged(MarkerBatchChangedEvent batch) {
+        for (MarkerIndex index : indexes) {
+            try {
+                index.applyAll(batch.getChanges());
+            } catch (Exception e) {
+                log.error("마커 인덱스 일괄 반영 실패 - {} / {}건, 오류: {}",
+                        index.getClass().getSimpleName(), batch.getChanges().size(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 🔍 제목/설명 N-gram(1-gram, 2-gram) 역색인
+// 한글은 띄어쓰기가 일정하지 않으므로 공백 토큰화 대신 공백을 제거한 문자 N-gram 을 사용한다.
+@Slf4j
+@Component
+public class MarkerNgramIndex implements MarkerIndex {
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // 정규화된 색인 대상 문서
+    private static final class Document {
+        private final String title;
+        private final String description;
+        private final Set<String> grams;
+
+        private Document(String title, String description) {
+            this.title = title;
+            this.description = description;
+            this.grams = new HashSet<>();
+            addGrams(title, grams);
+            addGrams(description, grams);
+        }
+    }
+
+    // 검색 결과 (마커 ID + 관련도 점수)
+    private record Hit(long id, int score, int titleLength) {
+    }
+
+    @Override
+    public void rebuild(Collection<MarkerSnapshot> markers) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            for (MarkerSnapshot marker : markers) {
+                insert(marker);
+            }
+            ready = true;
+            log.info("N-gram 색인 구축 - 문서 {}개, 색인어 {}개", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(MarkerChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getMarkerId());
+            if (event.getCurrent() != null) {
+                insert(event.getCurrent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 🔍 키워드 검색 - 관련도 순 마커 ID 목록
+    public List<Long> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> queryGrams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            queryGrams.add(query);
+        } else {
+            for (int i = 0; i + 2 <= query.length(); i++) {
+                queryGrams.add(query.substring(i, i + 2));
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 posting list 부터 교집합
+            List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for (Long id : lists.get(0)) {
+                for (int i = 1; i < lists.size(); i++) {
+                    if (!lists.get(i).contains(id)) {
+                        continue candidates;
+                    }
+                }
+                // 2-gram 교집합은 후보일 뿐이므로 실제 부분 문자열 포함 여부 확인
+                Document document = documents.get(id);
+                int score = score(document, query);
+                if (score > 0) {
+                    hits.add(new Hit(id, score, document.title.length()));
+                }
+            }
+
+            hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                    .thenComparingInt(Hit::titleLength)
+                    .thenComparing(Comparator.comparingLong(Hit::id).reversed()));
+
+            List<Long> ids = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                ids.add(hit.id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 관련도: 제목 일치 > 제목 접두 > 제목 포함 > 설명 포함(출현 횟수)
+    private static int score(Document document, String query) {
+        int score = 0;
+        if (document.title.equals(query)) {
+            score += 100;
+        } else if (document.title.startsWith(query)) {
+            score += 50;
+        } else if (document.title.contains(query)) {
+            score += 30;
+        }
+
+        int occurrences = 0;
+        for (int from = document.description.indexOf(query); from >= 0 && occurrences < 5;
+             from = document.description.indexOf(query, from + 1)) {
+            occurrences++;
+        }
+        return score + occurrences * 5;
+    }
+
+    private void insert(MarkerSnapshot marker) {
+        Document document = new Document(normalize(marker.getTitle()), normalize(marker.getDescription()));
+        documents.put(marker.getId(), document);
+        for (String gram : document.grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(marker.getId());
+        }
+    }
+
+    private void remove(Long markerId) {
+        Document document = documents.remove(markerId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(markerId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 소문자 + 공백 제거
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(cp -> !Character.isWhitespace(cp))
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private static void addGrams(String text, Set<String> grams) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+}
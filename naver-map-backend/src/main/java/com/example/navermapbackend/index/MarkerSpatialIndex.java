@@ -0,0 +1,357 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.example.navermapbackend.util.GeoUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 📍 균일 격자(uniform grid) 기반 인메모리 공간 인덱스
+// 셀마다 좌표를 원시 배열로 보관하여 영역 조회 시 DB 범위 스캔 없이 후보를 찾는다.
+@Slf4j
+@Component
+@Order(0) // 파생 캐시(타일 등)보다 먼저 갱신되어야 함
+public class MarkerSpatialIndex implements MarkerIndex {
+
+    // 셀 한 변의 크기 (약 1.1km)
+    public static final double CELL_SIZE_DEG = 0.01;
+
+    private static final int ROWS = (int) Math.ceil(180.0 / CELL_SIZE_DEG);
+    private static final int COLS = (int) Math.ceil(360.0 / CELL_SIZE_DEG);
+
+    private final Map<Long, Cell> cells = new HashMap<>();
+    // 카테고리별 격자 - 카테고리 조건이 있는 최근접 탐색은 해당 카테고리 마커만 담긴 셀을 훑는다
+    private final Map<String, Map<Long, Cell>> cellsByCategory = new HashMap<>();
+    private final Map<Long, Long> cellByMarkerId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // 영역 조회 결과를 받는 콜백 (박싱 없이 좌표 전달)
+    @FunctionalInterface
+    public interface PointVisitor {
+        void visit(long id, double latitude, double longitude, String category);
+    }
+
+    // 최근접 탐색 결과 (마커 ID + 대권 거리)
+    @Getter
+    @AllArgsConstructor
+    public static class Neighbor {
+        private final long id;
+        private final double distanceKm;
+    }
+
+    @Override
+    public void rebuild(Collection<MarkerSnapshot> markers) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellsByCategory.clear();
+            cellByMarkerId.clear();
+            for (MarkerSnapshot marker : markers) {
+                insert(marker);
+            }
+            ready = true;
+            log.info("공간 인덱스 구축 - 마커 {}개, 셀 {}개", cellByMarkerId.size(), cells.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(MarkerChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getMarkerId());
+            if (event.getCurrent() != null) {
+                insert(event.getCurrent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellByMarkerId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 🔍 영역 내 마커 ID 조회
+    public List<Long> findIdsInArea(double minLat, double maxLat, double minLng, double maxLng) {
+        List<Long> ids = new ArrayList<>();
+        forEachInArea(minLat, maxLat, minLng, maxLng, (id, lat, lng, category) -> ids.add(id));
+        return ids;
+    }
+
+    // 🔍 영역 내 마커 순회
+    public void forEachInArea(double minLat, double maxLat, double minLng, double maxLng, PointVisitor visitor) {
+        int minRow = row(minLat);
+        int maxRow = row(maxLat);
+        int minCol = col(minLng);
+        int maxCol = col(maxLng);
+        long rangeCells = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+        lock.readLock().lock();
+        try {
+            if (rangeCells > cells.size()) {
+                // 넓은 영역: 비어 있는 셀을 훑지 않고 점유된 셀만 확인
+                for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                    int r = rowOf(entry.getKey());
+                    int c = colOf(entry.getKey());
+                    if (r >= minRow && r <= maxRow && c >= minCol && c <= maxCol) {
+                        entry.getValue().visit(minLat, maxLat, minLng, maxLng, visitor);
+                    }
+                }
+            } else {
+                for (int r = minRow; r <= maxRow; r++) {
+                    for (int c = minCol; c <= maxCol; c++) {
+                        Cell cell = cells.get(key(r, c));
+                        if (cell != null) {
+                            cell.visit(minLat, maxLat, minLng, maxLng, visitor);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 🎯 k-최근접 마커 탐색 (확장 링 방식의 best-first 탐색)
+    // 중심 셀에서 한 칸씩 링을 넓혀 가며, 다음 링까지의 최소 거리가 현재 k번째 거리보다
+    // 멀어지면 종료한다. 링 둘레가 점유 셀 수보다 커지면 남은 점유 셀만 한 번 훑고 끝내므로
+    // 탐색 비용은 min(링 면적, 점유 셀 수) + 후보 수로 제한된다.
+    // 카테고리 조건이 있으면 그 카테고리의 격자에서 탐색하므로, 드문 카테고리도
+    // 전체가 아닌 해당 카테고리의 점유 셀 수로 비용이 제한된다.
+    public List<Neighbor> findNearest(double latitude, double longitude, int k, String category) {
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(
+                (a, b) -> Double.compare(b.getDistanceKm(), a.getDistanceKm()));
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> grid = category == null ? cells : cellsByCategory.getOrDefault(category, Map.of());
+            int maxRing = Math.max(ROWS, COLS);
+            for (int ring = 0; ring <= maxRing && !grid.isEmpty(); ring++) {
+                if (8L * ring > grid.size()) {
+                    // 희소 구간: 아직 방문하지 않은 점유 셀만 확인 후 종료
+                    for (Map.Entry<Long, Cell> entry : grid.entrySet()) {
+                        int r = rowOf(entry.getKey());
+                        int c = colOf(entry.getKey());
+                        if (Math.max(Math.abs(r - centerRow), Math.abs(c - centerCol)) >= ring) {
+                            entry.getValue().collectNearest(latitude, longitude, k, category, best);
+                        }
+                    }
+                    break;
+                }
+
+                visitRing(grid, centerRow, centerCol, ring, latitude, longitude, k, category, best);
+
+                if (best.size() == k && ringLowerBoundKm(latitude, ring + 1) > best.peek().getDistanceKm()) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Neighbor> result = new ArrayList<>(best);
+        result.sort((a, b) -> Double.compare(a.getDistanceKm(), b.getDistanceKm()));
+        return result;
+    }
+
+    private static void visitRing(Map<Long, Cell> grid, int centerRow, int centerCol, int ring,
+                                  double latitude, double longitude, int k, String category,
+                                  PriorityQueue<Neighbor> best) {
+        for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+            if (r < 0 || r >= ROWS) {
+                continue;
+            }
+            boolean edgeRow = r == centerRow - ring || r == centerRow + ring;
+            int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+            for (int c = centerCol - ring; c <= centerCol + ring; c += step) {
+                if (c < 0 || c >= COLS) {
+                    continue;
+                }
+                Cell cell = grid.get(key(r, c));
+                if (cell != null) {
+                    cell.collectNearest(latitude, longitude, k, category, best);
+                }
+            }
+        }
+    }
+
+    // 링 ring 에 속한 셀까지의 최소 대권 거리 (하한)
+    private static double ringLowerBoundKm(double latitude, int ring) {
+        double gapRad = Math.toRadians((ring - 1) * CELL_SIZE_DEG);
+        if (gapRad <= 0) {
+            return 0;
+        }
+        double maxAbsLat = Math.min(90.0, Math.abs(latitude) + (ring + 1) * CELL_SIZE_DEG);
+        double meridian = GeoUtils.EARTH_RADIUS_KM * gapRad;
+        double parallel = 2 * GeoUtils.EARTH_RADIUS_KM * Math.cos(Math.toRadians(maxAbsLat))
+                * Math.sin(Math.min(Math.PI, gapRad) / 2);
+        return Math.min(meridian, parallel);
+    }
+
+    private void insert(MarkerSnapshot marker) {
+        if (marker.getLatitude() == null || marker.getLongitude() == null) {
+            return;
+        }
+        long key = key(row(marker.getLatitude()), col(marker.getLongitude()));
+        cells.computeIfAbsent(key, k -> new Cell())
+                .add(marker.getId(), marker.getLatitude(), marker.getLongitude(), marker.getCategory());
+        if (marker.getCategory() != null) {
+            cellsByCategory.computeIfAbsent(marker.getCategory(), c -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new Cell())
+                    .add(marker.getId(), marker.getLatitude(), marker.getLongitude(), marker.getCategory());
+        }
+        cellByMarkerId.put(marker.getId(), key);
+    }
+
+    private void remove(Long markerId) {
+        Long key = cellByMarkerId.remove(markerId);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        if (cell == null) {
+            return;
+        }
+        String category = cell.categoryOf(markerId);
+        if (cell.remove(markerId) && cell.size == 0) {
+            cells.remove(key);
+        }
+        Map<Long, Cell> categoryGrid = category != null ? cellsByCategory.get(category) : null;
+        if (categoryGrid != null) {
+            Cell categoryCell = categoryGrid.get(key);
+            if (categoryCell != null && categoryCell.remove(markerId) && categoryCell.size == 0) {
+                categoryGrid.remove(key);
+                if (categoryGrid.isEmpty()) {
+                    cellsByCategory.remove(category);
+                }
+            }
+        }
+    }
+
+    // 격자 좌표 계산
+    static int row(double latitude) {
+        int r = (int) Math.floor((latitude + 90.0) / CELL_SIZE_DEG);
+        return Math.max(0, Math.min(ROWS - 1, r));
+    }
+
+    static int col(double longitude) {
+        int c = (int) Math.floor((longitude + 180.0) / CELL_SIZE_DEG);
+        return Math.max(0, Math.min(COLS - 1, c));
+    }
+
+    static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    static int rowOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    static int colOf(long key) {
+        return (int) key;
+    }
+
+    // 셀 하나에 속한 마커들 (병렬 원시 배열)
+    private static final class Cell {
+        private long[] ids = new long[4];
+        private double[] lats = new double[4];
+        private double[] lngs = new double[4];
+        private String[] categories = new String[4];
+        private int size;
+
+        void add(long id, double lat, double lng, String category) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+            }
+            ids[size] = id;
+            lats[size] = lat;
+            lngs[size] = lng;
+            categories[size] = category;
+            size++;
+        }
+
+        String categoryOf(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return categories[i];
+                }
+            }
+            return null;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    int last = size - 1;
+                    ids[i] = ids[last];
+                    lats[i] = lats[last];
+                    lngs[i] = lngs[last];
+                    categories[i] = categories[last];
+                    categories[last] = null;
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void collectNearest(double latitude, double longitude, int k, String category,
+                            PriorityQueue<Neighbor> best) {
+            for (int i = 0; i < size; i++) {
+                if (category != null && !Objects.equals(category, categories[i])) {
+                    continue;
+                }
+                double distance = GeoUtils.haversineKm(latitude, longitude, lats[i], lngs[i]);
+                if (best.size() < k) {
+                    best.add(new Neighbor(ids[i], distance));
+                } else if (distance < best.peek().getDistanceKm()) {
+                    best.poll();
+                    best.add(new Neighbor(ids[i], distance));
+                }
+            }
+        }
+
+        void visit(double minLat, double maxLat, double minLng, double maxLng, PointVisitor visitor) {
+            for (int i = 0; i < size; i++) {
+                double lat = lats[i];
+                double lng = lngs[i];
+                if (lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng) {
+                    visitor.visit(ids[i], lat, lng, categories[i]);
+                }
+            }
+        }
+    }
+}
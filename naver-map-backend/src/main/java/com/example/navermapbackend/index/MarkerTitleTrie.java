@@ -0,0 +1,207 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.dto.MarkerSuggestionResponse;
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.example.navermapbackend.util.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// ⌨️ 마커 제목 자동완성용 자모 트라이
+// 각 노드가 하위 트리의 상위 TOP_K 항목을 미리 들고 있어 조회는 접두사 길이만큼만 내려가면 된다.
+@Slf4j
+@Component
+public class MarkerTitleTrie implements MarkerIndex {
+
+    public static final int TOP_K = 20;
+
+    // 점수 높은 순 (최근 수정 순), 동점이면 ID 내림차순
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry e) -> e.score).reversed()
+            .thenComparing(Comparator.comparingLong((Entry e) -> e.id).reversed());
+
+    private final Node root = new Node(null, '\0');
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    private static final class Entry {
+        private final long id;
+        private final String key;
+        private final long score;
+        private final MarkerSuggestionResponse suggestion;
+
+        private Entry(MarkerSnapshot marker, String key) {
+            this.id = marker.getId();
+            this.key = key;
+            this.score = marker.getUpdatedAt() != null
+                    ? marker.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                    : 0L;
+            this.suggestion = MarkerSuggestionResponse.builder()
+                    .id(marker.getId())
+                    .title(marker.getTitle())
+                    .category(marker.getCategory())
+                    .latitude(marker.getLatitude())
+                    .longitude(marker.getLongitude())
+                    .build();
+        }
+    }
+
+    private static final class Node {
+        private final Node parent;
+        private final char ch;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Entry> terminals = new ArrayList<>(1);
+        private List<Entry> top = List.of();
+
+        private Node(Node parent, char ch) {
+            this.parent = parent;
+            this.ch = ch;
+        }
+
+        // 자신의 종단 항목 + 자식들의 top 을 병합하여 top 재계산
+        private void recomputeTop() {
+            List<Entry> merged = new ArrayList<>(terminals);
+            for (Node child : children.values()) {
+                merged.addAll(child.top);
+            }
+            merged.sort(RANKING);
+            top = merged.size() > TOP_K ? List.copyOf(merged.subList(0, TOP_K)) : List.copyOf(merged);
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<MarkerSnapshot> markers) {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.terminals.clear();
+            root.top = List.of();
+            entries.clear();
+            for (MarkerSnapshot marker : markers) {
+                insert(marker, false);
+            }
+            // 대량 적재 시에는 경로마다 갱신하지 않고 후위 순회로 한 번만 계산
+            computeTops(root);
+            ready = true;
+            log.info("자동완성 트라이 구축 - 제목 {}개", entries.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(MarkerChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getMarkerId());
+            if (event.getCurrent() != null) {
+                insert(event.getCurrent(), true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 🔤 접두사 자동완성
+    public List<MarkerSuggestionResponse> suggest(String prefix, int limit) {
+        String key = HangulUtils.toJamo(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            List<MarkerSuggestionResponse> suggestions = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (Entry entry : node.top) {
+                if (suggestions.size() >= limit) {
+                    break;
+                }
+                suggestions.add(entry.suggestion);
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(MarkerSnapshot marker, boolean refresh) {
+        String key = HangulUtils.toJamo(marker.getTitle());
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            Node parent = node;
+            node = node.children.computeIfAbsent(ch, c -> new Node(parent, c));
+        }
+
+        Entry entry = new Entry(marker, key);
+        node.terminals.add(entry);
+        entries.put(entry.id, entry);
+        if (refresh) {
+            refreshPath(node);
+        }
+    }
+
+    private void remove(Long markerId) {
+        Entry entry = entries.remove(markerId);
+        if (entry == null) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < entry.key.length() && node != null; i++) {
+            node = node.children.get(entry.key.charAt(i));
+        }
+        if (node == null) {
+            return;
+        }
+        node.terminals.removeIf(e -> e.id == entry.id);
+
+        // 비어 있는 노드는 잘라낸다
+        while (node.parent != null && node.terminals.isEmpty() && node.children.isEmpty()) {
+            node.parent.children.remove(node.ch);
+            node = node.parent;
+        }
+        refreshPath(node);
+    }
+
+    private void computeTops(Node node) {
+        for (Node child : node.children.values()) {
+            computeTops(child);
+        }
+        node.recomputeTop();
+    }
+
+    // 변경된 노드부터 루트까지 top 재계산 (접두사 길이 x 자식 수 x TOP_K)
+    private void refreshPath(Node node) {
+        for (Node current = node; current != null; current = current.parent) {
+            current.recomputeTop();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.navermapbackend.model;
 
+import com.example.navermapbackend.util.GeoUtils;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -10,6 +11,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
@@ -18,16 +20,24 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_marker_user", columnList = "user_id"),
                 @Index(name = "idx_marker_location", columnList = "latitude, longitude"),
-                @Index(name = "idx_marker_category", columnList = "category")
+                @Index(name = "idx_marker_geohash", columnList = "geohash"),
+                @Index(name = "idx_marker_category", columnList = "category"),
+                @Index(name = "idx_marker_created", columnList = "created_at, id"),
+                @Index(name = "idx_marker_user_created", columnList = "user_id, created_at, id"),
+                @Index(name = "idx_marker_change_seq", columnList = "change_seq")
         })
+// 🪦 삭제된 마커(툼스톤)는 일반 조회에서 제외 (변경 동기화 전용 네이티브 쿼리로만 조회)
+@SQLRestriction("deleted = false")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Marker {
 
+    // 🔢 시퀀스 + pooled 옵티마이저 (IDENTITY 는 INSERT 배치가 불가능하므로 사용하지 않음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "marker_seq_gen")
+    @SequenceGenerator(name = "marker_seq_gen", sequenceName = "marker_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "위도는 필수입니다")
@@ -42,6 +52,10 @@ public class Marker {
     @Column(nullable = false)
     private Double longitude;
 
+    // 📍 반경 검색 사전 필터용 지오해시 (좌표 변경 시 자동 갱신)
+    @Column(length = 12)
+    private String geohash;
+
     @Size(max = 100, message = "제목은 100자 이하여야 합니다")
     @Column(length = 100)
     private String title;
@@ -66,15 +80,35 @@ public class Marker {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 🔄 변경 동기화용 단조 증가 시퀀스 (생성/수정/삭제 시 갱신)
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    // 🪦 소프트 삭제 (툼스톤은 보존 기간 이후 정리)
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean deleted = false;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // JPA 생명주기 콜백
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        updateGeohash();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        updateGeohash();
+    }
+
+    private void updateGeohash() {
+        if (latitude != null && longitude != null) {
+            geohash = GeoUtils.encodeGeohash(latitude, longitude);
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 // src/main/java/com/example/navermapbackend/model/User.java
 package com.example.navermapbackend.model;
 
+import com.example.navermapbackend.service.UserSummaryCacheListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserSummaryCacheListener.class) // 수정/삭제 시 작성자 요약 캐시 무효화
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,6 +46,10 @@ public class User {
     @Column(name = "agree_to_marketing")
     private boolean agreeToMarketing = false;
 
+    // 이 시각 이전에 발급된 토큰은 모두 무효 (전체 기기 로그아웃)
+    @Column(name = "tokens_valid_after")
+    private LocalDateTime tokensValidAfter;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -1,20 +1,44 @@
 package com.example.navermapbackend.repository;
 
+import com.example.navermapbackend.event.MarkerSnapshot;
 import com.example.navermapbackend.model.Marker;
 import com.example.navermapbackend.model.User;
+import com.example.navermapbackend.util.GeoUtils;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MarkerRepository extends JpaRepository<Marker, Long> {
+public interface MarkerRepository extends JpaRepository<Marker, Long>, JpaSpecificationExecutor<Marker> {
+
+    // ⚡ 목록 조회는 작성자(createdBy)를 함께 로딩하여 변환 시 N+1 조회를 방지
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    List<Marker> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    Page<Marker> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    Optional<Marker> findById(Long id);
 
     // 🔒 사용자별 마커 조회 (보안상 가장 중요)
     List<Marker> findByCreatedBy(User user);
@@ -23,8 +47,18 @@ public interface MarkerRepository extends JpaRepository<Marker, Long> {
     Optional<Marker> findByIdAndCreatedBy(Long id, User user);
 
     // 🔒 사용자 ID로 마커 조회
+    @EntityGraph(attributePaths = "createdBy")
     List<Marker> findByCreatedById(Long userId);
 
+    // 🔒 사용자 ID 기반 조회 (인증 principal 의 userId 사용 - 사용자 엔티티 조회 불필요)
+    @EntityGraph(attributePaths = "createdBy")
+    Optional<Marker> findByIdAndCreatedById(Long id, Long userId);
+
+    @EntityGraph(attributePaths = "createdBy")
+    Page<Marker> findByCreatedById(Long userId, Pageable pageable);
+
+    long countByCreatedById(Long userId);
+
     // 🔒 소유권 존재 여부 확인
     boolean existsByIdAndCreatedById(Long markerId, Long userId);
 
@@ -32,21 +66,54 @@ public interface MarkerRepository extends JpaRepository<Marker, Long> {
     long countByCreatedBy(User user);
 
     // 📍 위치 기반 검색
+    @EntityGraph(attributePaths = "createdBy")
     List<Marker> findByLatitudeBetweenAndLongitudeBetween(
             Double minLat, Double maxLat,
             Double minLng, Double maxLng);
 
+    // 📍 지오해시 범위 검색 - 반경을 덮는 셀 범위들을 OR 로 묶어 한 번에 조회 (인덱스 범위 스캔)
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    List<Marker> findAll(Specification<Marker> spec);
+
+    static Specification<Marker> geohashInRanges(List<GeoUtils.GeohashRange> ranges) {
+        return (root, query, cb) -> cb.or(ranges.stream()
+                .map(range -> cb.between(root.<String>get("geohash"), range.from(), range.to()))
+                .toArray(Predicate[]::new));
+    }
+
+    // 📍 ID 목록으로 일괄 조회 (공간 인덱스 조회 결과 로딩)
+    @EntityGraph(attributePaths = "createdBy")
+    List<Marker> findByIdIn(Collection<Long> ids);
+
+    // 🗂️ 인메모리 인덱스 적재용 스냅샷 (엔티티 로딩 없이 필요한 컬럼만)
+    @Query("SELECT new com.example.navermapbackend.event.MarkerSnapshot(" +
+            "m.id, m.latitude, m.longitude, m.title, m.description, m.category, m.updatedAt) " +
+            "FROM Marker m")
+    List<MarkerSnapshot> findAllSnapshots();
+
+    // 📤 전체 마커 스트리밍 (대량 내보내기용 커서, 호출 측 트랜잭션 안에서 사용 후 반드시 close)
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy ORDER BY m.id")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<Marker> streamAll();
+
     // 🔍 카테고리별 조회
+    @EntityGraph(attributePaths = "createdBy")
     List<Marker> findByCategory(String category);
 
     // 🔍 제목으로 검색
+    @EntityGraph(attributePaths = "createdBy")
     List<Marker> findByTitleContainingIgnoreCase(String title);
 
     // 🔍 설명으로 검색
+    @EntityGraph(attributePaths = "createdBy")
     List<Marker> findByDescriptionContainingIgnoreCase(String description);
 
     // 🔍 키워드 검색 (제목 또는 설명)
-    @Query("SELECT m FROM Marker m WHERE " +
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy WHERE " +
             "LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(m.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Marker> searchByKeyword(@Param("keyword") String keyword);
@@ -55,20 +122,78 @@ public interface MarkerRepository extends JpaRepository<Marker, Long> {
     Page<Marker> findByCreatedBy(User user, Pageable pageable);
 
     // 📄 카테고리별 페이징 조회
+    @EntityGraph(attributePaths = "createdBy")
     Page<Marker> findByCategory(String category, Pageable pageable);
 
     // 📄 사용자별 + 카테고리별 조회
     Page<Marker> findByCreatedByAndCategory(User user, String category, Pageable pageable);
 
+    // 📄 커서(keyset) 페이징 - (createdAt, id) 내림차순, OFFSET 없이 다음 페이지 조회
+    // 커서 조건은 행 값 비교 (created_at, id) < (?, ?) 가 아니라 JPQL 로 표현 가능한 전개형
+    // createdAt < :createdAt OR (createdAt = :createdAt AND id < :id) 이다. 결과는 같지만,
+    // 실행 계획은 DB 가 OR 조건을 (created_at, id) 인덱스 범위 스캔으로 바꾸는지에 달려 있다.
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy ORDER BY m.createdAt DESC, m.id DESC")
+    List<Marker> findLatest(Pageable limit);
+
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy WHERE " +
+            "m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Marker> findLatestAfter(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable limit);
+
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy WHERE m.createdBy.id = :userId " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Marker> findLatestByCreatedById(@Param("userId") Long userId, Pageable limit);
+
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy WHERE m.createdBy.id = :userId AND " +
+            "(m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Marker> findLatestByCreatedByIdAfter(@Param("userId") Long userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable limit);
+
+    // 🔄 변경 동기화 - 변경 시퀀스 구간 (since, until] 의 생존 마커 (시퀀스 오름차순)
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy WHERE " +
+            "m.changeSeq > :since AND m.changeSeq <= :until ORDER BY m.changeSeq")
+    List<Marker> findChangedBetween(@Param("since") Long since,
+                                    @Param("until") Long until,
+                                    Pageable limit);
+
+    // 🔄 변경 동기화 - 같은 구간의 삭제 표식(tombstone) [id, change_seq]
+    // 엔티티의 삭제 필터(@SQLRestriction)를 우회해야 하므로 네이티브 쿼리 사용
+    @Query(value = "SELECT id, change_seq FROM markers WHERE deleted = TRUE " +
+            "AND change_seq > :since AND change_seq <= :until ORDER BY change_seq LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> findTombstonesBetween(@Param("since") Long since,
+                                         @Param("until") Long until,
+                                         @Param("limit") int limit);
+
+    // 🔢 발급된 최대 변경 시퀀스 (삭제 표식 포함)
+    @Query(value = "SELECT COALESCE(MAX(change_seq), 0) FROM markers", nativeQuery = true)
+    long findMaxChangeSeq();
+
+    // 🧹 보관 기간이 지난 삭제 표식 정리
+    @Query(value = "SELECT MAX(change_seq) FROM markers WHERE deleted = TRUE AND deleted_at < :cutoff",
+            nativeQuery = true)
+    Long findMaxTombstoneSeqBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "DELETE FROM markers WHERE deleted = TRUE AND deleted_at < :cutoff", nativeQuery = true)
+    int purgeTombstonesBefore(@Param("cutoff") LocalDateTime cutoff);
+
     // 📅 시간 기반 조회
+    @EntityGraph(attributePaths = "createdBy")
     List<Marker> findTop10ByOrderByCreatedAtDesc();
 
+    @EntityGraph(attributePaths = "createdBy")
     List<Marker> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     List<Marker> findTop5ByCreatedByOrderByCreatedAtDesc(User user);
 
     // 📍 반경 내 마커 검색 (Haversine 공식 사용)
-    @Query("SELECT m FROM Marker m WHERE " +
+    @Query("SELECT m FROM Marker m JOIN FETCH m.createdBy WHERE " +
             "6371 * acos(cos(radians(:lat)) * cos(radians(m.latitude)) * " +
             "cos(radians(m.longitude) - radians(:lng)) + " +
             "sin(radians(:lat)) * sin(radians(m.latitude))) <= :radius")
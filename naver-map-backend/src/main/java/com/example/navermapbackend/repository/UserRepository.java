@@ -3,8 +3,11 @@ package com.example.navermapbackend.repository;
 
 import com.example.navermapbackend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,4 +24,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 전화번호 존재 여부 확인
     boolean existsByPhone(String phone);
+
+    // 중복 확인 Bloom 필터 초기 적재용 (엔티티 대신 값만 조회)
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    @Query("SELECT u.phone FROM User u WHERE u.phone IS NOT NULL AND u.phone <> ''")
+    List<String> findAllPhones();
+
+    // 전체 기기 로그아웃 기준 시각이 있는 사용자 (시작 시 폐기 목록 복원)
+    List<User> findByTokensValidAfterAfter(LocalDateTime since);
 }
\ No newline at end of file
@@ -7,8 +7,8 @@ import com.example.navermapbackend.model.User;
 import com.example.navermapbackend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -18,37 +18,52 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserExistenceFilter userExistenceFilter;
 
     // 사용자 인증 (로그인)
+    // BCrypt 대기 중 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse authenticateUser(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 이메일입니다."));
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingService.matches(password, user.getPassword())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 🔁 cost 설정이 올라갔으면 평문을 알고 있는 지금 다시 해싱
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHashingService.encode(password));
+            userRepository.save(user);
+            log.info("비밀번호 해시 갱신: {}", email);
+        }
+
         log.info("사용자 인증 성공: {}", email);
         return convertToUserResponse(user);
     }
 
     // 사용자 생성 (회원가입)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createUser(RegisterRequest request) {
         // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (existsByEmail(request.getEmail())) {
             throw new RuntimeException("이미 사용 중인 이메일입니다.");
         }
 
         // 전화번호 중복 체크 (전화번호가 있는 경우)
         if (request.getPhone() != null && !request.getPhone().isEmpty()) {
-            if (userRepository.existsByPhone(request.getPhone())) {
+            if (existsByPhone(request.getPhone())) {
                 throw new RuntimeException("이미 사용 중인 전화번호입니다.");
             }
         }
 
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
+
+        // 필터는 저장 전에 갱신 (커밋 직후 확인 요청이 "없음" 으로 답하지 않도록)
+        userExistenceFilter.add(UserExistenceFilter.Kind.EMAIL, request.getEmail());
+        userExistenceFilter.add(UserExistenceFilter.Kind.PHONE, request.getPhone());
 
         // 사용자 생성
         User user = User.builder()
@@ -62,6 +77,10 @@ public class AuthService {
         User savedUser = userRepository.save(user);
         log.info("새 사용자 생성: {}", savedUser.getEmail());
 
+        // 트랜잭션 밖이므로 save 가 반환되면 커밋된 상태 - 필터의 대기 목록 정리
+        userExistenceFilter.saved(UserExistenceFilter.Kind.EMAIL, request.getEmail());
+        userExistenceFilter.saved(UserExistenceFilter.Kind.PHONE, request.getPhone());
+
         return convertToUserResponse(savedUser);
     }
 
@@ -77,13 +96,13 @@ public class AuthService {
     // 이메일 존재 여부 확인
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return userExistenceFilter.exists(UserExistenceFilter.Kind.EMAIL, email, userRepository::existsByEmail);
     }
 
     // 전화번호 존재 여부 확인
     @Transactional(readOnly = true)
     public boolean existsByPhone(String phone) {
-        return userRepository.existsByPhone(phone);
+        return userExistenceFilter.exists(UserExistenceFilter.Kind.PHONE, phone, userRepository::existsByPhone);
     }
 
     // ID로 사용자 조회 (토큰 갱신시 필요)
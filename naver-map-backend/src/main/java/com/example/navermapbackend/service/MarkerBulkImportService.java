@@ -0,0 +1,349 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.dto.MarkerBulkImportResponse;
+import com.example.navermapbackend.dto.MarkerRequest;
+import com.example.navermapbackend.event.MarkerBatchChangedEvent;
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.example.navermapbackend.model.Marker;
+import com.example.navermapbackend.model.User;
+import com.example.navermapbackend.repository.MarkerRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 📥 마커 대량 가져오기 (JSON 배열 / CSV 스트리밍)
+// 요청 본문을 한 행씩 읽어 CHUNK_SIZE 단위로 검증/저장하므로 메모리 사용량은 청크 크기로 제한된다.
+// 청크마다 별도 트랜잭션에서 JDBC 배치 INSERT 하고, 실패한 청크는 행 단위로 재시도하여 오류 행만 보고한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarkerBulkImportService {
+
+    // 트랜잭션 하나에 저장할 행 수 (JDBC 배치 크기 50의 배수)
+    static final int CHUNK_SIZE = 1000;
+
+    // 응답에 포함할 최대 오류 행 수
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final MarkerRepository markerRepository;
+    private final MarkerChangeSequence changeSequence;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public enum ImportFormat {
+        JSON, CSV;
+
+        public static ImportFormat fromContentType(String contentType) {
+            if (contentType == null || contentType.startsWith("application/json")) {
+                return JSON;
+            }
+            if (contentType.startsWith("text/csv")) {
+                return CSV;
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다. application/json 또는 text/csv 로 보내주세요.");
+        }
+    }
+
+    // 행 번호 + 요청 (행 번호는 1부터, CSV 헤더 제외)
+    private record Row(int number, MarkerRequest request) {
+    }
+
+    // 행을 읽는 즉시 청크에 쌓고, 가득 차면 저장
+    private final class Importer {
+        private final Long userId;
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<MarkerBulkImportResponse.RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        private Importer(Long userId) {
+            this.userId = userId;
+        }
+
+        void accept(MarkerRequest request) {
+            chunk.add(new Row(++total, request));
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(String message) {
+            fail(++total, message);
+        }
+
+        void fail(int row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new MarkerBulkImportResponse.RowError(row, message));
+            }
+        }
+
+        void flush() {
+            if (!chunk.isEmpty()) {
+                saveChunk(chunk, this);
+                chunk.clear();
+            }
+        }
+    }
+
+    // 📥 대량 가져오기 - 소유자는 요청한 사용자
+    public MarkerBulkImportResponse importMarkers(InputStream in, ImportFormat format, Long userId)
+            throws IOException {
+        long start = System.currentTimeMillis();
+        Importer importer = new Importer(userId);
+        String abortReason = null;
+        try {
+            switch (format) {
+                case JSON -> readJson(in, importer);
+                case CSV -> readCsv(in, importer);
+            }
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            String message = e instanceof JsonProcessingException jpe ? jpe.getOriginalMessage() : e.getMessage();
+            if (importer.total == 0) {
+                throw new IllegalArgumentException("입력 형식 오류: " + message);
+            }
+            // 형식이 깨진 지점 이후는 읽을 수 없으므로 중단 (이미 읽은 행은 저장)
+            abortReason = "행 " + (importer.total + 1) + " 부근 입력 형식 오류: " + message;
+        }
+        importer.flush();
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("마커 대량 가져오기 완료 - 사용자: {}, 전체 {}행, 성공 {}행, 실패 {}행, {}ms",
+                userId, importer.total, importer.imported, importer.failed, elapsed);
+
+        return MarkerBulkImportResponse.builder()
+                .totalRows(importer.total)
+                .importedCount(importer.imported)
+                .failedCount(importer.failed)
+                .errors(importer.errors)
+                .errorsTruncated(importer.failed > importer.errors.size())
+                .abortReason(abortReason)
+                .elapsedMs(elapsed)
+                .build();
+    }
+
+    // JSON 배열을 요소 단위로 스트리밍 파싱
+    private void readJson(InputStream in, Importer importer) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 배열이어야 합니다.");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("JSON 배열이 닫히지 않았습니다.");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    importer.reject("객체가 아닙니다.");
+                    continue;
+                }
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    importer.accept(objectMapper.treeToValue(node, MarkerRequest.class));
+                } catch (JsonProcessingException e) {
+                    importer.reject("값 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    // CSV (첫 행은 헤더, 열 순서 무관 - 내보내기 CSV 를 그대로 가져올 수 있음)
+    private void readCsv(InputStream in, Importer importer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(name, i);
+        }
+        if (!columns.containsKey("latitude") || !columns.containsKey("longitude")) {
+            throw new IllegalArgumentException("CSV 헤더에 latitude, longitude 열이 필요합니다.");
+        }
+
+        List<String> record;
+        while ((record = readCsvRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue; // 빈 줄
+            }
+            try {
+                MarkerRequest request = new MarkerRequest();
+                request.setLatitude(parseDouble(field(record, columns, "latitude")));
+                request.setLongitude(parseDouble(field(record, columns, "longitude")));
+                request.setTitle(field(record, columns, "title"));
+                request.setDescription(field(record, columns, "description"));
+                String category = field(record, columns, "category");
+                if (category != null) {
+                    request.setCategory(category);
+                }
+                importer.accept(request);
+            } catch (NumberFormatException e) {
+                importer.reject("좌표 형식 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Double parseDouble(String value) {
+        return value == null ? null : Double.valueOf(value.trim());
+    }
+
+    // RFC 4180 레코드 하나 읽기 (따옴표 안의 쉼표/줄바꿈/"" 지원)
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char ch = line.charAt(i);
+                if (quoted) {
+                    if (ch == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(ch);
+                    }
+                } else if (ch == '"') {
+                    quoted = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(ch);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // 1) 검증 → 2) 청크 단위 배치 INSERT → 3) 실패 시 행 단위 재시도
+    private void saveChunk(List<Row> chunk, Importer importer) {
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            Set<ConstraintViolation<MarkerRequest>> violations = validator.validate(row.request());
+            if (violations.isEmpty()) {
+                valid.add(row);
+            } else {
+                importer.fail(row.number(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            importer.transactionTemplate.executeWithoutResult(status -> insert(valid, importer.userId));
+            importer.imported += valid.size();
+        } catch (RuntimeException e) {
+            log.warn("마커 대량 가져오기 청크 실패 - 행 {}~{}, 행 단위로 재시도: {}",
+                    valid.get(0).number(), valid.get(valid.size() - 1).number(), e.getMessage());
+            for (Row row : valid) {
+                try {
+                    importer.transactionTemplate.executeWithoutResult(status -> insert(List.of(row), importer.userId));
+                    importer.imported++;
+                } catch (RuntimeException rowError) {
+                    importer.fail(row.number(), rootMessage(rowError));
+                }
+            }
+        }
+    }
+
+    private void insert(List<Row> rows, Long userId) {
+        User owner = entityManager.getReference(User.class, userId);
+        List<Marker> markers = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            MarkerRequest request = row.request();
+            markers.add(Marker.builder()
+                    .latitude(request.getLatitude())
+                    .longitude(request.getLongitude())
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .category(request.getCategory())
+                    .createdBy(owner)
+                    .changeSeq(changeSequence.next())
+                    .build());
+        }
+
+        markerRepository.saveAll(markers);
+        markerRepository.flush();
+
+        // 커밋 이후 인덱스/구독자에게 청크 단위로 한 번에 전달됨 (롤백 시 폐기)
+        List<MarkerChangedEvent> changes = new ArrayList<>(markers.size());
+        for (Marker marker : markers) {
+            changes.add(MarkerChangedEvent.created(MarkerSnapshot.from(marker)));
+        }
+        eventPublisher.publishEvent(new MarkerBatchChangedEvent(changes));
+        entityManager.clear();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+}
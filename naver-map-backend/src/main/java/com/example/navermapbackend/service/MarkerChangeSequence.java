@@ -0,0 +1,105 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.repository.MarkerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 🔢 마커 변경 시퀀스 발급기
+// 커밋되지 않은 시퀀스를 추적하여, 클라이언트에게는 "그 이하가 모두 커밋된" 워터마크까지만 노출한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkerChangeSequence implements SmartInitializingSingleton {
+
+    private final MarkerRepository markerRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private long current;
+
+    // 정리(purge)된 툼스톤의 최대 시퀀스 - 이보다 오래된 토큰은 삭제 누락 가능성이 있어 전체 동기화
+    private volatile long purgedThrough;
+
+    // 서버 기동 시각 - 재기동 전 발급된 토큰은 전체 동기화로 처리
+    private final long epoch = System.currentTimeMillis();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        lock.lock();
+        try {
+            current = markerRepository.findMaxChangeSeq();
+        } finally {
+            lock.unlock();
+        }
+        log.info("마커 변경 시퀀스 초기화 - 시작값: {}", current);
+    }
+
+    // 외부에서 change_seq 를 직접 기록한 경우 (부하 테스트 데이터 적재) 이후부터 발급
+    public void advanceTo(long seq) {
+        lock.lock();
+        try {
+            current = Math.max(current, seq);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getPurgedThrough() {
+        return purgedThrough;
+    }
+
+    public void markPurgedThrough(long seq) {
+        lock.lock();
+        try {
+            purgedThrough = Math.max(purgedThrough, seq);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 다음 시퀀스 발급 (트랜잭션 종료 시 미커밋 목록에서 제거)
+    public long next() {
+        long seq;
+        lock.lock();
+        try {
+            seq = ++current;
+            inFlight.add(seq);
+        } finally {
+            lock.unlock();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.remove(seq);
+                }
+            });
+        } else {
+            inFlight.remove(seq);
+        }
+        return seq;
+    }
+
+    // 안전하게 노출 가능한 최대 시퀀스 (진행 중인 가장 오래된 트랜잭션 직전까지)
+    public long visibleWatermark() {
+        lock.lock();
+        try {
+            Long oldest = inFlight.isEmpty() ? null : inFlight.first();
+            return oldest == null ? current : Math.min(current, oldest - 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
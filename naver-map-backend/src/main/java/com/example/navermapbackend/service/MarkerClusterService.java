@@ -0,0 +1,104 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.dto.MarkerClusterResponse;
+import com.example.navermapbackend.index.MarkerSpatialIndex;
+import com.example.navermapbackend.model.Marker;
+import com.example.navermapbackend.repository.MarkerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 🗺️ 줌 레벨 기반 서버 사이드 마커 클러스터링
+// 화면 픽셀 격자(Web Mercator)로 마커를 묶어, 응답 크기가 마커 총량이 아닌 뷰포트 크기에 비례하도록 한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MarkerClusterService {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 21;
+
+    // 클러스터 격자 한 칸의 화면 크기 (px) - 타일(256px) 경계와 정렬되도록 약수로 지정
+    private static final int CLUSTER_CELL_PX = 64;
+    private static final int TILE_SIZE_PX = 256;
+
+    private final MarkerSpatialIndex spatialIndex;
+    private final MarkerRepository markerRepository;
+
+    // 📍 영역 내 마커 클러스터 계산
+    public List<MarkerClusterResponse> getClusters(double minLat, double maxLat,
+                                                   double minLng, double maxLng, int zoom) {
+        double worldPx = TILE_SIZE_PX * Math.pow(2, zoom);
+        Map<Long, ClusterAccumulator> grid = new HashMap<>();
+
+        MarkerSpatialIndex.PointVisitor visitor = (id, lat, lng, category) -> {
+            long cx = (long) Math.floor(mercatorX(lng) * worldPx / CLUSTER_CELL_PX);
+            long cy = (long) Math.floor(mercatorY(lat) * worldPx / CLUSTER_CELL_PX);
+            grid.computeIfAbsent((cy << 32) | (cx & 0xffffffffL), k -> new ClusterAccumulator())
+                    .add(id, lat, lng, category);
+        };
+
+        if (spatialIndex.isReady()) {
+            spatialIndex.forEachInArea(minLat, maxLat, minLng, maxLng, visitor);
+        } else {
+            for (Marker marker : markerRepository.findByLatitudeBetweenAndLongitudeBetween(
+                    minLat, maxLat, minLng, maxLng)) {
+                visitor.visit(marker.getId(), marker.getLatitude(), marker.getLongitude(), marker.getCategory());
+            }
+        }
+
+        List<MarkerClusterResponse> clusters = new ArrayList<>(grid.size());
+        for (ClusterAccumulator acc : grid.values()) {
+            clusters.add(acc.toResponse());
+        }
+        log.info("마커 클러스터 계산 - 줌 {}, 클러스터 {}개", zoom, clusters.size());
+        return clusters;
+    }
+
+    // Web Mercator 정규화 좌표 (0~1)
+    public static double mercatorX(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    public static double mercatorY(double latitude) {
+        double clamped = Math.max(-85.05112878, Math.min(85.05112878, latitude));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private static final class ClusterAccumulator {
+        private double sumLat;
+        private double sumLng;
+        private int count;
+        private long firstId;
+        private final Map<String, Integer> categories = new LinkedHashMap<>();
+
+        void add(long id, double lat, double lng, String category) {
+            if (count == 0) {
+                firstId = id;
+            }
+            sumLat += lat;
+            sumLng += lng;
+            count++;
+            categories.merge(category != null ? category : "etc", 1, Integer::sum);
+        }
+
+        MarkerClusterResponse toResponse() {
+            return MarkerClusterResponse.builder()
+                    .latitude(sumLat / count)
+                    .longitude(sumLng / count)
+                    .count(count)
+                    .categories(categories)
+                    .markerId(count == 1 ? firstId : null)
+                    .build();
+        }
+    }
+}
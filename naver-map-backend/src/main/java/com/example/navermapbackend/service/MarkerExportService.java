@@ -0,0 +1,218 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.dto.MarkerResponse;
+import com.example.navermapbackend.model.Marker;
+import com.example.navermapbackend.repository.MarkerRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+// 📤 마커 스트리밍 내보내기
+// JPA Stream(스크롤 커서)으로 한 행씩 읽어 곧바로 응답 스트림에 쓰므로 데이터 양과 무관하게 메모리가 일정하다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarkerExportService {
+
+    // 영속성 컨텍스트를 비우는 주기 (행 수)
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final MarkerRepository markerRepository;
+    private final MarkerService markerService;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson;charset=UTF-8", "ndjson"),
+        GEOJSON("application/geo+json;charset=UTF-8", "geojson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    // 행 단위 기록 콜백
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(MarkerResponse marker) throws IOException;
+    }
+
+    // 📍 GET /api/markers?stream=true - 기존 ApiResponse 형태를 유지한 스트리밍 응답
+    public void streamAllAsApiResponse(OutputStream out) throws IOException {
+        ObjectWriter writer = compactWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "마커 조회 성공");
+            generator.writeArrayFieldStart("data");
+            long count = streamMarkers(marker -> writer.writeValue(generator, marker));
+            generator.writeEndArray();
+            generator.writeNullField("error");
+            generator.writeFieldName("timestamp");
+            writer.writeValue(generator, LocalDateTime.now());
+            generator.writeEndObject();
+            log.info("모든 마커 스트리밍 조회 - 총 {}개", count);
+        }
+    }
+
+    // 📤 GET /api/markers/export
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        long count = switch (format) {
+            case NDJSON -> writeNdjson(out);
+            case GEOJSON -> writeGeoJson(out);
+            case CSV -> writeCsv(out);
+        };
+        log.info("마커 내보내기 완료 - 형식: {}, 총 {}개", format, count);
+    }
+
+    private long writeNdjson(OutputStream out) throws IOException {
+        ObjectWriter writer = compactWriter();
+        long count = streamMarkers(marker -> {
+            out.write(writer.writeValueAsBytes(marker));
+            out.write('\n');
+        });
+        out.flush();
+        return count;
+    }
+
+    private long writeGeoJson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "FeatureCollection");
+            generator.writeArrayFieldStart("features");
+            long count = streamMarkers(marker -> {
+                generator.writeStartObject();
+                generator.writeStringField("type", "Feature");
+                generator.writeNumberField("id", marker.getId());
+                generator.writeObjectFieldStart("geometry");
+                generator.writeStringField("type", "Point");
+                generator.writeArrayFieldStart("coordinates");
+                generator.writeNumber(marker.getLongitude());
+                generator.writeNumber(marker.getLatitude());
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeObjectFieldStart("properties");
+                generator.writeStringField("title", marker.getTitle());
+                generator.writeStringField("description", marker.getDescription());
+                generator.writeStringField("category", marker.getCategory());
+                generator.writeStringField("createdByName", marker.getCreatedByName());
+                generator.writeStringField("createdAt", text(marker.getCreatedAt()));
+                generator.writeStringField("updatedAt", text(marker.getUpdatedAt()));
+                generator.writeEndObject();
+                generator.writeEndObject();
+            });
+            generator.writeEndArray();
+            generator.writeEndObject();
+            return count;
+        }
+    }
+
+    private long writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write("id,latitude,longitude,title,description,category,createdByEmail,createdByName,createdAt,updatedAt\n");
+        long count = streamMarkers(marker -> {
+            writer.write(String.valueOf(marker.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(marker.getLatitude()));
+            writer.write(',');
+            writer.write(String.valueOf(marker.getLongitude()));
+            writer.write(',');
+            writer.write(csv(marker.getTitle()));
+            writer.write(',');
+            writer.write(csv(marker.getDescription()));
+            writer.write(',');
+            writer.write(csv(marker.getCategory()));
+            writer.write(',');
+            writer.write(csv(marker.getCreatedByEmail()));
+            writer.write(',');
+            writer.write(csv(marker.getCreatedByName()));
+            writer.write(',');
+            writer.write(csv(text(marker.getCreatedAt())));
+            writer.write(',');
+            writer.write(csv(text(marker.getUpdatedAt())));
+            writer.write('\n');
+        });
+        writer.flush();
+        return count;
+    }
+
+    // 읽기 전용 트랜잭션 안에서 커서를 열고 한 행씩 전달
+    private long streamMarkers(RowWriter rowWriter) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        Long count = template.execute(status -> {
+            long written = 0;
+            try (Stream<Marker> stream = markerRepository.streamAll()) {
+                Iterator<Marker> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    rowWriter.write(markerService.convertToMarkerResponse(iterator.next()));
+                    if (++written % CLEAR_INTERVAL == 0) {
+                        entityManager.clear();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return written;
+        });
+        return count == null ? 0 : count;
+    }
+
+    // 들여쓰기/값마다 flush 없는 직렬화기
+    private ObjectWriter compactWriter() {
+        return objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.dto.MarkerResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 🗃️ 마커 단건 조회 캐시 (Caffeine, W-TinyLFU 크기 제한 + TTL)
+// 같은 키의 동시 미스는 하나의 로딩으로 합쳐지고, 지표는 cache.* 로 노출된다.
+@Slf4j
+@Component
+public class MarkerResponseCache {
+
+    public static final String CACHE_NAME = "markerById";
+
+    private final Cache<Long, MarkerResponse> cache;
+
+    public MarkerResponseCache(MeterRegistry meterRegistry,
+                               @Value("${marker.cache.maximum-size:10000}") long maximumSize,
+                               @Value("${marker.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("마커 캐시 초기화 - 최대 {}개, TTL {}분", maximumSize, ttlMinutes);
+    }
+
+    // 캐시에 없으면 loader 로 적재 (같은 ID 의 동시 요청은 한 번만 로딩, 예외는 캐시하지 않음)
+    public MarkerResponse get(Long markerId, Function<Long, MarkerResponse> loader) {
+        return cache.get(markerId, loader);
+    }
+
+    // ✂️ 즉시 무효화 + 트랜잭션 종료 후 한 번 더 무효화
+    // 커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우까지 제거하기 위함
+    public void invalidate(Long markerId) {
+        cache.invalidate(markerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(markerId);
+                }
+            });
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -1,20 +1,47 @@
 package com.example.navermapbackend.service;
 
+import com.example.navermapbackend.dto.CursorPagedResponse;
+import com.example.navermapbackend.dto.MarkerBatchGetResponse;
+import com.example.navermapbackend.dto.MarkerChangesResponse;
 import com.example.navermapbackend.dto.MarkerRequest;
 import com.example.navermapbackend.dto.MarkerResponse;
+import com.example.navermapbackend.dto.MarkerSuggestionResponse;
+import com.example.navermapbackend.dto.NearestMarkerResponse;
 import com.example.navermapbackend.dto.PagedResponse;
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.example.navermapbackend.index.MarkerNgramIndex;
+import com.example.navermapbackend.index.MarkerSpatialIndex;
+import com.example.navermapbackend.index.MarkerTitleTrie;
 import com.example.navermapbackend.model.Marker;
 import com.example.navermapbackend.model.User;
 import com.example.navermapbackend.repository.MarkerRepository;
 import com.example.navermapbackend.repository.UserRepository;
+import com.example.navermapbackend.sql.SqlStatementStats;
+import com.example.navermapbackend.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,8 +50,37 @@ import java.util.stream.Collectors;
 @Transactional
 public class MarkerService {
 
+    // 일괄 조회 시 한 번에 요청 가능한 최대 ID 수
+    public static final int MAX_BATCH_IDS = 500;
+
+    // IN 절 하나에 넣는 최대 ID 수 (PostgreSQL 바인드 파라미터 한도 32767 보다 충분히 작게)
+    static final int ID_QUERY_CHUNK_SIZE = 1000;
+
+    // 선택 가능한 응답 필드 (선언 순서대로 출력)
+    private static final Map<String, Function<MarkerResponse, Object>> MARKER_FIELDS = new LinkedHashMap<>();
+
+    static {
+        MARKER_FIELDS.put("id", MarkerResponse::getId);
+        MARKER_FIELDS.put("latitude", MarkerResponse::getLatitude);
+        MARKER_FIELDS.put("longitude", MarkerResponse::getLongitude);
+        MARKER_FIELDS.put("title", MarkerResponse::getTitle);
+        MARKER_FIELDS.put("description", MarkerResponse::getDescription);
+        MARKER_FIELDS.put("category", MarkerResponse::getCategory);
+        MARKER_FIELDS.put("createdByEmail", MarkerResponse::getCreatedByEmail);
+        MARKER_FIELDS.put("createdByName", MarkerResponse::getCreatedByName);
+        MARKER_FIELDS.put("createdAt", MarkerResponse::getCreatedAt);
+        MARKER_FIELDS.put("updatedAt", MarkerResponse::getUpdatedAt);
+    }
+
     private final MarkerRepository markerRepository;
     private final UserRepository userRepository;
+    private final MarkerSpatialIndex spatialIndex;
+    private final MarkerNgramIndex ngramIndex;
+    private final MarkerTitleTrie titleTrie;
+    private final MarkerChangeSequence changeSequence;
+    private final MarkerResponseCache markerCache;
+    private final UserSummaryCache userSummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 📍 모든 마커 조회 (공개)
     @Transactional(readOnly = true)
@@ -38,18 +94,19 @@ public class MarkerService {
 
     // 🔒 사용자별 마커 조회 (인증 필요)
     @Transactional(readOnly = true)
-    public List<MarkerResponse> getMarkersByUser(String userEmail) {
-        User user = getUserByEmail(userEmail);
-        List<Marker> markers = markerRepository.findByCreatedBy(user);
-        log.info("사용자 {}의 마커 조회 - 총 {}개", userEmail, markers.size());
+    public List<MarkerResponse> getMarkersByUser(Long userId) {
+        List<Marker> markers = markerRepository.findByCreatedById(userId);
+        log.info("사용자 {}의 마커 조회 - 총 {}개", userId, markers.size());
         return markers.stream()
                 .map(this::convertToMarkerResponse)
                 .collect(Collectors.toList());
     }
 
     // 🔒 마커 생성 (인증 필요)
-    public MarkerResponse createMarker(MarkerRequest request, String userEmail) {
-        User user = getUserByEmail(userEmail);
+    public MarkerResponse createMarker(MarkerRequest request, Long userId) {
+        // 작성자 정보는 캐시에서 (미스일 때만 조회), 연관관계는 프록시 참조로 설정
+        UserSummaryCache.UserSummary owner = userSummaryCache.get(userId);
+        User user = userRepository.getReferenceById(userId);
 
         Marker marker = Marker.builder()
                 .latitude(request.getLatitude())
@@ -58,62 +115,135 @@ public class MarkerService {
                 .description(request.getDescription())
                 .category(request.getCategory())
                 .createdBy(user)
+                .changeSeq(changeSequence.next())
                 .build();
 
         Marker savedMarker = markerRepository.save(marker);
-        log.info("마커 생성 성공 - ID: {}, 사용자: {}", savedMarker.getId(), userEmail);
+        eventPublisher.publishEvent(MarkerChangedEvent.created(MarkerSnapshot.from(savedMarker)));
+        log.info("마커 생성 성공 - ID: {}, 사용자: {}", savedMarker.getId(), owner.email());
 
-        return convertToMarkerResponse(savedMarker);
+        return convertToMarkerResponse(savedMarker, owner.email(), owner.name());
     }
 
     // 🔒 마커 수정 (인증 + 권한 확인)
-    public MarkerResponse updateMarker(Long markerId, MarkerRequest request, String userEmail) {
-        User user = getUserByEmail(userEmail);
-
-        // 🔒 소유권 확인 - 가장 중요한 보안 체크!
-        Marker marker = markerRepository.findByIdAndCreatedBy(markerId, user)
+    public MarkerResponse updateMarker(Long markerId, MarkerRequest request, Long userId) {
+        // 🔒 소유권 확인 - 가장 중요한 보안 체크! (마커 + 작성자를 한 번에 조회)
+        Marker marker = markerRepository.findByIdAndCreatedById(markerId, userId)
                 .orElseThrow(() -> new RuntimeException("마커를 찾을 수 없거나 수정 권한이 없습니다."));
 
+        MarkerSnapshot previous = MarkerSnapshot.from(marker);
+
         // 마커 정보 업데이트
         marker.setLatitude(request.getLatitude());
         marker.setLongitude(request.getLongitude());
         marker.setTitle(request.getTitle());
         marker.setDescription(request.getDescription());
         marker.setCategory(request.getCategory());
+        marker.setChangeSeq(changeSequence.next());
 
-        Marker updatedMarker = markerRepository.save(marker);
-        log.info("마커 수정 성공 - ID: {}, 사용자: {}", markerId, userEmail);
+        Marker updatedMarker = markerRepository.saveAndFlush(marker);
+        markerCache.invalidate(markerId);
+        eventPublisher.publishEvent(MarkerChangedEvent.updated(previous, MarkerSnapshot.from(updatedMarker)));
+        log.info("마커 수정 성공 - ID: {}, 사용자: {}", markerId, userId);
 
         return convertToMarkerResponse(updatedMarker);
     }
 
     // 🔒 마커 삭제 (인증 + 권한 확인)
-    public void deleteMarker(Long markerId, String userEmail) {
-        User user = getUserByEmail(userEmail);
-
+    public void deleteMarker(Long markerId, Long userId) {
         // 🔒 소유권 확인
-        Marker marker = markerRepository.findByIdAndCreatedBy(markerId, user)
+        Marker marker = markerRepository.findByIdAndCreatedById(markerId, userId)
                 .orElseThrow(() -> new RuntimeException("마커를 찾을 수 없거나 삭제 권한이 없습니다."));
 
-        markerRepository.delete(marker);
-        log.info("마커 삭제 성공 - ID: {}, 사용자: {}", markerId, userEmail);
+        // 🪦 소프트 삭제 - 변경 동기화 클라이언트에 삭제를 전달하기 위해 툼스톤으로 남김
+        MarkerSnapshot previous = MarkerSnapshot.from(marker);
+        marker.setDeleted(true);
+        marker.setDeletedAt(LocalDateTime.now());
+        marker.setChangeSeq(changeSequence.next());
+        markerRepository.save(marker);
+        markerCache.invalidate(markerId);
+        eventPublisher.publishEvent(MarkerChangedEvent.deleted(previous));
+        log.info("마커 삭제 성공 - ID: {}, 사용자: {}", markerId, userId);
     }
 
-    // 📍 특정 마커 조회 (공개)
-    @Transactional(readOnly = true)
+    // 📍 특정 마커 조회 (공개, 캐시 우선)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (findById 가 작성자를 함께 로딩)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public MarkerResponse getMarkerById(Long markerId) {
-        Marker marker = markerRepository.findById(markerId)
-                .orElseThrow(() -> new RuntimeException("마커를 찾을 수 없습니다."));
+        return markerCache.get(markerId, id -> {
+            Marker marker = markerRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("마커를 찾을 수 없습니다."));
+            return convertToMarkerResponse(marker);
+        });
+    }
+
+    // 📦 ID 목록 일괄 조회 (한 번의 IN 쿼리, 요청 순서 유지, 필드 선택)
+    @Transactional(readOnly = true)
+    public MarkerBatchGetResponse getMarkersByIds(List<Long> ids, List<String> fields) {
+        List<String> selected = resolveFields(fields);
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+
+        Map<Long, Marker> markersById = uniqueIds.isEmpty() ? Map.of()
+                : findByIds(uniqueIds).stream()
+                        .collect(Collectors.toMap(Marker::getId, Function.identity()));
+
+        List<Map<String, Object>> markers = new ArrayList<>(markersById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Marker marker = markersById.get(id);
+            if (marker == null) {
+                missingIds.add(id);
+                continue;
+            }
+            MarkerResponse response = convertToMarkerResponse(marker);
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String field : selected) {
+                values.put(field, MARKER_FIELDS.get(field).apply(response));
+            }
+            markers.add(values);
+        }
+
+        log.info("마커 일괄 조회 - 요청 {}개, 조회 {}개, 없음 {}개", uniqueIds.size(), markers.size(), missingIds.size());
+        return MarkerBatchGetResponse.builder()
+                .markers(markers)
+                .missingIds(missingIds)
+                .build();
+    }
 
-        return convertToMarkerResponse(marker);
+    private static List<String> resolveFields(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return List.copyOf(MARKER_FIELDS.keySet());
+        }
+        Set<String> requested = new LinkedHashSet<>(fields);
+        for (String field : requested) {
+            if (!MARKER_FIELDS.containsKey(field)) {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + field);
+            }
+        }
+        // id 는 항상 포함하고, 나머지는 정의된 순서대로
+        List<String> selected = new ArrayList<>();
+        for (String field : MARKER_FIELDS.keySet()) {
+            if (field.equals("id") || requested.contains(field)) {
+                selected.add(field);
+            }
+        }
+        return selected;
     }
 
     // 🔍 위치 기반 마커 검색
     @Transactional(readOnly = true)
     public List<MarkerResponse> getMarkersInArea(Double minLat, Double maxLat,
                                                  Double minLng, Double maxLng) {
-        List<Marker> markers = markerRepository.findByLatitudeBetweenAndLongitudeBetween(
-                minLat, maxLat, minLng, maxLng);
+        List<Marker> markers;
+        if (spatialIndex.isReady()) {
+            // 공간 인덱스에서 후보 ID를 찾고 기본키로만 로딩
+            List<Long> ids = spatialIndex.findIdsInArea(minLat, maxLat, minLng, maxLng);
+            markers = findByIds(ids);
+        } else {
+            markers = markerRepository.findByLatitudeBetweenAndLongitudeBetween(
+                    minLat, maxLat, minLng, maxLng);
+        }
 
         log.info("영역 내 마커 검색 - 총 {}개", markers.size());
         return markers.stream()
@@ -134,13 +264,29 @@ public class MarkerService {
     // 🔍 키워드 검색
     @Transactional(readOnly = true)
     public List<MarkerResponse> searchMarkers(String keyword) {
-        List<Marker> markers = markerRepository.searchByKeyword(keyword);
+        List<Marker> markers;
+        if (ngramIndex.isReady()) {
+            // N-gram 역색인으로 관련도 순 ID를 구한 뒤 기본키로만 로딩
+            List<Long> rankedIds = ngramIndex.search(keyword);
+            markers = loadInOrder(rankedIds);
+        } else {
+            markers = markerRepository.searchByKeyword(keyword);
+        }
         log.info("키워드 '{}' 검색 - 총 {}개", keyword, markers.size());
         return markers.stream()
                 .map(this::convertToMarkerResponse)
                 .collect(Collectors.toList());
     }
 
+    // ⌨️ 제목 자동완성 (인메모리 트라이, DB 조회 없음)
+    @Transactional(readOnly = true)
+    public List<MarkerSuggestionResponse> suggestTitles(String prefix, int limit) {
+        if (!titleTrie.isReady()) {
+            throw new IllegalStateException("자동완성 색인을 준비 중입니다.");
+        }
+        return titleTrie.suggest(prefix, limit);
+    }
+
     // 📄 페이징된 마커 조회
     @Transactional(readOnly = true)
     public PagedResponse<MarkerResponse> getMarkersWithPaging(Pageable pageable) {
@@ -162,9 +308,8 @@ public class MarkerService {
 
     // 🔒 사용자별 페이징된 마커 조회
     @Transactional(readOnly = true)
-    public PagedResponse<MarkerResponse> getUserMarkersWithPaging(String userEmail, Pageable pageable) {
-        User user = getUserByEmail(userEmail);
-        Page<Marker> page = markerRepository.findByCreatedBy(user, pageable);
+    public PagedResponse<MarkerResponse> getUserMarkersWithPaging(Long userId, Pageable pageable) {
+        Page<Marker> page = markerRepository.findByCreatedById(userId, pageable);
         List<MarkerResponse> content = page.getContent().stream()
                 .map(this::convertToMarkerResponse)
                 .collect(Collectors.toList());
@@ -180,23 +325,264 @@ public class MarkerService {
                 .build();
     }
 
+    // 📄 커서 기반 마커 조회 (무한 스크롤용, 깊은 페이지도 일정한 비용)
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<MarkerResponse> getMarkersWithCursor(String cursor, int size, boolean includeTotal) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Marker> markers;
+        if (cursor == null || cursor.isBlank()) {
+            markers = markerRepository.findLatest(limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            markers = markerRepository.findLatestAfter(position.createdAt(), position.id(), limit);
+        }
+
+        Long total = includeTotal ? markerRepository.count() : null;
+        return toCursorPage(markers, size, total);
+    }
+
+    // 🔒 사용자별 커서 기반 마커 조회
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<MarkerResponse> getUserMarkersWithCursor(Long userId, String cursor,
+                                                                       int size, boolean includeTotal) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Marker> markers;
+        if (cursor == null || cursor.isBlank()) {
+            markers = markerRepository.findLatestByCreatedById(userId, limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            markers = markerRepository.findLatestByCreatedByIdAfter(userId, position.createdAt(), position.id(), limit);
+        }
+
+        Long total = includeTotal ? markerRepository.countByCreatedById(userId) : null;
+        return toCursorPage(markers, size, total);
+    }
+
+    private CursorPagedResponse<MarkerResponse> toCursorPage(List<Marker> markers, int size, Long total) {
+        // size + 1 개를 조회해 다음 페이지 존재 여부를 COUNT 없이 판단
+        boolean hasNext = markers.size() > size;
+        List<Marker> page = hasNext ? markers.subList(0, size) : markers;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        return CursorPagedResponse.<MarkerResponse>builder()
+                .content(page.stream()
+                        .map(this::convertToMarkerResponse)
+                        .collect(Collectors.toList()))
+                .size(page.size())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(total)
+                .build();
+    }
+
+    // 🔄 변경 동기화 - since 토큰 이후 생성/수정/삭제된 마커
+    @Transactional(readOnly = true)
+    public MarkerChangesResponse getChanges(String token, int limit) {
+        // 워터마크를 먼저 확정: 그 이하의 시퀀스는 모두 커밋되어 조회 가능
+        long until = changeSequence.visibleWatermark();
+        Long since = decodeChangeToken(token);
+
+        if (since == null || since < changeSequence.getPurgedThrough()) {
+            // 토큰이 없거나, 재기동/툼스톤 정리로 누락 가능성이 있으면 전체 동기화
+            List<MarkerResponse> markers = markerRepository.findAll().stream()
+                    .map(this::convertToMarkerResponse)
+                    .collect(Collectors.toList());
+            log.info("변경 동기화 - 전체 동기화 {}개 (시퀀스 {})", markers.size(), until);
+            return MarkerChangesResponse.builder()
+                    .upserts(markers)
+                    .deletedIds(List.of())
+                    .nextToken(encodeChangeToken(until))
+                    .hasMore(false)
+                    .fullSync(true)
+                    .build();
+        }
+
+        if (since >= until) {
+            return MarkerChangesResponse.builder()
+                    .upserts(List.of())
+                    .deletedIds(List.of())
+                    .nextToken(encodeChangeToken(since))
+                    .hasMore(false)
+                    .fullSync(false)
+                    .build();
+        }
+
+        List<Marker> live = markerRepository.findChangedBetween(since, until, PageRequest.of(0, limit + 1));
+        List<Object[]> tombstones = markerRepository.findTombstonesBetween(since, until, limit + 1);
+
+        // 두 목록을 시퀀스 순으로 병합하여 최대 limit 개까지 전달
+        List<MarkerResponse> upserts = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        long lastSeq = since;
+        while (upserts.size() + deletedIds.size() < limit && (i < live.size() || j < tombstones.size())) {
+            long liveSeq = i < live.size() ? live.get(i).getChangeSeq() : Long.MAX_VALUE;
+            long tombstoneSeq = j < tombstones.size() ? ((Number) tombstones.get(j)[1]).longValue() : Long.MAX_VALUE;
+            if (liveSeq < tombstoneSeq) {
+                upserts.add(convertToMarkerResponse(live.get(i++)));
+                lastSeq = liveSeq;
+            } else {
+                deletedIds.add(((Number) tombstones.get(j++)[0]).longValue());
+                lastSeq = tombstoneSeq;
+            }
+        }
+        boolean hasMore = i < live.size() || j < tombstones.size();
+
+        log.info("변경 동기화 - 수정 {}개, 삭제 {}개 (시퀀스 {} → {})",
+                upserts.size(), deletedIds.size(), since, hasMore ? lastSeq : until);
+        return MarkerChangesResponse.builder()
+                .upserts(upserts)
+                .deletedIds(deletedIds)
+                .nextToken(encodeChangeToken(hasMore ? lastSeq : until))
+                .hasMore(hasMore)
+                .fullSync(false)
+                .build();
+    }
+
     // 🔍 반경 내 마커 검색
     @Transactional(readOnly = true)
     public List<MarkerResponse> getMarkersWithinRadius(Double latitude, Double longitude, Double radiusKm) {
-        List<Marker> markers = markerRepository.findMarkersWithinRadius(latitude, longitude, radiusKm);
-        log.info("반경 {}km 내 마커 검색 - 총 {}개", radiusKm, markers.size());
+        // 1) 반경을 감싸는 지오해시 셀 범위로 후보만 한 번에 조회 (인덱스 사용, 날짜변경선을 넘으면 양쪽 범위)
+        double[] box = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+        List<GeoUtils.GeohashRange> ranges = GeoUtils.coveringGeohashRanges(box[0], box[1], box[2], box[3]);
+        List<Marker> candidates = markerRepository.findAll(MarkerRepository.geohashInRanges(ranges));
+
+        // 2) 후보에 대해서만 정확한 거리 계산 후 거리순 정렬
+        Map<Long, Double> distances = new HashMap<>();
+        List<Marker> markers = new ArrayList<>();
+        for (Marker marker : candidates) {
+            double distance = GeoUtils.haversineKm(latitude, longitude, marker.getLatitude(), marker.getLongitude());
+            if (distance <= radiusKm) {
+                distances.put(marker.getId(), distance);
+                markers.add(marker);
+            }
+        }
+        markers.sort(Comparator.comparingDouble(m -> distances.get(m.getId())));
+
+        log.info("반경 {}km 내 마커 검색 - 지오해시 범위 {}개, 후보 {}개, 결과 {}개",
+                radiusKm, ranges.size(), candidates.size(), markers.size());
         return markers.stream()
                 .map(this::convertToMarkerResponse)
                 .collect(Collectors.toList());
     }
 
+    // 🎯 k-최근접 마커 검색 (공간 인덱스 사용)
+    @Transactional(readOnly = true)
+    public List<NearestMarkerResponse> getNearestMarkers(Double latitude, Double longitude, int k, String category) {
+        if (!spatialIndex.isReady()) {
+            throw new IllegalStateException("공간 인덱스를 준비 중입니다.");
+        }
+
+        List<MarkerSpatialIndex.Neighbor> neighbors = spatialIndex.findNearest(latitude, longitude, k, category);
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Marker> markersById = findByIds(
+                        neighbors.stream().map(MarkerSpatialIndex.Neighbor::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Marker::getId, Function.identity()));
+
+        List<NearestMarkerResponse> result = new ArrayList<>(neighbors.size());
+        for (MarkerSpatialIndex.Neighbor neighbor : neighbors) {
+            Marker marker = markersById.get(neighbor.getId());
+            if (marker != null) {
+                result.add(NearestMarkerResponse.builder()
+                        .marker(convertToMarkerResponse(marker))
+                        .distanceKm(neighbor.getDistanceKm())
+                        .build());
+            }
+        }
+        log.info("최근접 마커 {}개 검색 - 결과 {}개", k, result.size());
+        return result;
+    }
+
     // 유틸리티 메서드들
-    private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    // ID 목록 순서를 유지하며 마커 로딩
+    private List<Marker> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Marker> markersById = findByIds(ids).stream()
+                .collect(Collectors.toMap(Marker::getId, Function.identity()));
+        List<Marker> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Marker marker = markersById.get(id);
+            if (marker != null) {
+                ordered.add(marker);
+            }
+        }
+        return ordered;
+    }
+
+    // ID 목록 일괄 로딩 - 인덱스 결과가 아무리 커도 IN 절을 ID_QUERY_CHUNK_SIZE 개씩 나눠 조회
+    private List<Marker> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() <= ID_QUERY_CHUNK_SIZE) {
+            return markerRepository.findByIdIn(ids);
+        }
+        List<Long> idList = List.copyOf(ids);
+        // 첫 조각 이후의 조회는 @SqlBudget 에 선언된 1개 외에 허용
+        SqlStatementStats.allowExtraStatements((idList.size() - 1) / ID_QUERY_CHUNK_SIZE);
+        List<Marker> markers = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += ID_QUERY_CHUNK_SIZE) {
+            markers.addAll(markerRepository.findByIdIn(
+                    idList.subList(from, Math.min(from + ID_QUERY_CHUNK_SIZE, idList.size()))));
+        }
+        return markers;
+    }
+
+    // 커서 = Base64URL("createdAt|id")
+    private record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    private String encodeCursor(Marker marker) {
+        String raw = marker.getCreatedAt() + "|" + marker.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    // 동기화 토큰 = Base64URL("epoch|seq") - 서버 재기동(epoch 변경) 시 전체 동기화
+    private String encodeChangeToken(long seq) {
+        String raw = changeSequence.getEpoch() + "|" + seq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long decodeChangeToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        long epoch;
+        long seq;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            epoch = Long.parseLong(raw.substring(0, separator));
+            seq = Long.parseLong(raw.substring(separator + 1));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다.");
+        }
+        return epoch == changeSequence.getEpoch() ? seq : null;
+    }
+
+    MarkerResponse convertToMarkerResponse(Marker marker) {
+        return convertToMarkerResponse(marker, marker.getCreatedBy().getEmail(), marker.getCreatedBy().getName());
     }
 
-    private MarkerResponse convertToMarkerResponse(Marker marker) {
+    private MarkerResponse convertToMarkerResponse(Marker marker, String createdByEmail, String createdByName) {
         return MarkerResponse.builder()
                 .id(marker.getId())
                 .latitude(marker.getLatitude())
@@ -204,8 +590,8 @@ public class MarkerService {
                 .title(marker.getTitle())
                 .description(marker.getDescription())
                 .category(marker.getCategory())
-                .createdByEmail(marker.getCreatedBy().getEmail())
-                .createdByName(marker.getCreatedBy().getName())
+                .createdByEmail(createdByEmail)
+                .createdByName(createdByName)
                 .createdAt(marker.getCreatedAt())
                 .updatedAt(marker.getUpdatedAt())
                 .build();
@@ -0,0 +1,339 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.dto.MarkerPushMessage;
+import com.example.navermapbackend.event.MarkerBatchChangedEvent;
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 📡 뷰포트(경계 상자) 구독 기반 실시간 마커 변경 푸시 (SSE)
+// 구독을 격자 셀에 등록해 두고, 변경된 마커의 이전/현재 위치 셀에 걸친 구독만 검사하므로
+// 쓰기 한 건당 비용은 전체 구독자 수가 아니라 해당 셀의 구독자 수에 비례한다.
+// 넓은 구독은 더 큰 셀의 상위 격자(1도, 10도)에 등록해, 구독 하나가 차지하는 셀 수와 쓰기당 조회 수를 함께 제한한다.
+// 전송은 구독마다 크기가 제한된 대기열(outbox)을 두고 구독별 가상 스레드가 순서대로 비운다.
+// 느리거나 응답 없는 클라이언트는 자기 대기열만 막히고, 대기열이 넘치면 연결을 끊는다.
+@Slf4j
+@Service
+public class MarkerSubscriptionService {
+
+    // 구독 격자 셀 한 변의 크기 (약 11km)
+    public static final double CELL_SIZE_DEG = 0.1;
+
+    // 단계별 셀 크기 - 구독은 MAX_CELLS_PER_SUBSCRIPTION 개 이하로 덮이는 가장 작은 단계에 등록
+    // 마지막 단계(10도)는 전 세계도 648셀이므로 제한 없이 등록
+    private static final double[] LEVEL_CELL_SIZE_DEG = {CELL_SIZE_DEG, 1.0, 10.0};
+
+    // 이보다 많은 셀을 덮는 넓은 구독은 한 단계 큰 셀의 격자에 등록
+    static final int MAX_CELLS_PER_SUBSCRIPTION = 256;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscription>> cells = new ConcurrentHashMap<>();
+
+    // 구독별 전송 작업 - 블로킹되는 emitter.send 가 다른 구독의 전송을 막지 않도록 가상 스레드 사용
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("marker-push-", 0).factory());
+
+    private final long timeoutMs;
+    private final int outboxCapacity;
+    private final Counter overflowCounter;
+
+    public MarkerSubscriptionService(@Value("${marker.subscription.timeout-ms:1800000}") long timeoutMs,
+                                     @Value("${marker.subscription.outbox-capacity:64}") int outboxCapacity,
+                                     MeterRegistry meterRegistry) {
+        this.timeoutMs = timeoutMs;
+        this.outboxCapacity = outboxCapacity;
+        this.overflowCounter = Counter.builder("marker.subscription.overflow")
+                .description("전송 대기열이 넘쳐 연결을 끊은 구독 수")
+                .register(meterRegistry);
+    }
+
+    // 구독 영역
+    public record Viewport(double minLat, double maxLat, double minLng, double maxLng) {
+
+        boolean contains(MarkerSnapshot marker) {
+            return marker != null && marker.getLatitude() != null && marker.getLongitude() != null
+                    && marker.getLatitude() >= minLat && marker.getLatitude() <= maxLat
+                    && marker.getLongitude() >= minLng && marker.getLongitude() <= maxLng;
+        }
+    }
+
+    private static final class Subscription {
+        private final String id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile Viewport viewport;
+        private List<Long> cellKeys = List.of(); // 구독 객체 모니터로 보호
+
+        private Subscription(String id, SseEmitter emitter, int outboxCapacity) {
+            this.id = id;
+            this.emitter = emitter;
+            this.outbox = new ArrayBlockingQueue<>(outboxCapacity);
+        }
+    }
+
+    // 🔔 구독 시작 - 첫 이벤트(subscribed)로 구독 ID 전달 (영역 변경 시 사용)
+    public SseEmitter subscribe(Viewport viewport) {
+        return subscribe(viewport, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Viewport viewport, SseEmitter emitter) {
+        Subscription subscription = new Subscription(UUID.randomUUID().toString(), emitter, outboxCapacity);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscription);
+            emitter.complete();
+        });
+        emitter.onError(e -> unsubscribe(subscription));
+
+        // subscribed 도 대기열을 거쳐 이후 변경 이벤트보다 항상 먼저 전달
+        enqueue(subscription, SseEmitter.event()
+                .name("subscribed")
+                .data(Map.of("subscriptionId", subscription.id)));
+        subscriptions.put(subscription.id, subscription);
+        register(subscription, viewport);
+
+        log.info("마커 변경 구독 시작 - ID: {}, 영역: {}, 전체 구독 {}개",
+                subscription.id, viewport, subscriptions.size());
+        return emitter;
+    }
+
+    // 🗺️ 지도 이동 시 재연결 없이 구독 영역만 변경
+    public boolean updateViewport(String subscriptionId, Viewport viewport) {
+        Subscription subscription = subscriptions.get(subscriptionId);
+        if (subscription == null) {
+            return false;
+        }
+        register(subscription, viewport);
+        return true;
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    // 대량 가져오기 청크 - 구독자에게는 마커별로 전달
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMarkersChanged(MarkerBatchChangedEvent batch) {
+        for (MarkerChangedEvent event : batch.getChanges()) {
+            onMarkerChanged(event);
+        }
+    }
+
+    // 커밋된 변경만 전달 (롤백된 변경이 클라이언트에 보이지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMarkerChanged(MarkerChangedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        MarkerSnapshot previous = event.getPrevious();
+        MarkerSnapshot current = event.getCurrent();
+
+        Set<Subscription> candidates = new LinkedHashSet<>();
+        addCellCandidates(candidates, previous);
+        addCellCandidates(candidates, current);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        for (Subscription subscription : candidates) {
+            Viewport viewport = subscription.viewport;
+            boolean wasInside = viewport.contains(previous);
+            boolean isInside = viewport.contains(current);
+
+            // 구독 영역 기준으로 해석: 영역에 들어오면 created, 영역을 벗어나면 deleted
+            String type;
+            if (isInside) {
+                type = wasInside ? "updated" : "created";
+            } else if (wasInside) {
+                type = "deleted";
+            } else {
+                continue;
+            }
+
+            enqueue(subscription, SseEmitter.event().name(type).data(MarkerPushMessage.builder()
+                    .type(type)
+                    .markerId(event.getMarkerId())
+                    .marker(isInside ? current : null)
+                    .build()));
+        }
+    }
+
+    // 💓 프록시 유휴 연결 종료 방지 및 끊어진 클라이언트 정리
+    // 하트비트도 대기열을 거치므로, 전송이 멈춘 클라이언트는 대기열이 차는 시점에 정리된다.
+    @Scheduled(fixedDelayString = "${marker.subscription.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions.values()) {
+            enqueue(subscription, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscription subscription : new ArrayList<>(subscriptions.values())) {
+            disconnect(subscription);
+        }
+        senders.shutdown();
+    }
+
+    // 📮 구독 대기열에 넣고, 비우는 작업이 없으면 하나 시작 (구독당 동시에 하나만 실행)
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        if (subscription.closed) {
+            return;
+        }
+        if (!subscription.outbox.offer(event)) {
+            overflowCounter.increment();
+            log.warn("마커 변경 전송 대기열 초과로 구독 종료 - ID: {}, 대기 {}건",
+                    subscription.id, subscription.outbox.size());
+            disconnect(subscription);
+            return;
+        }
+        if (subscription.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.outbox.poll()) != null) {
+                if (subscription.closed) {
+                    subscription.outbox.clear();
+                    break;
+                }
+                try {
+                    subscription.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("마커 변경 전송 실패 - 구독 ID: {}, 오류: {}", subscription.id, e.getMessage());
+                    unsubscribe(subscription);
+                    subscription.outbox.clear();
+                }
+            }
+            subscription.draining.set(false);
+            // 플래그를 내린 직후 들어온 이벤트는 여기서 이어받는다
+        } while (!subscription.outbox.isEmpty() && subscription.draining.compareAndSet(false, true));
+    }
+
+    // 구독 해제 후 연결 종료 - complete() 는 진행 중인 send 가 끝날 때까지 기다릴 수 있으므로
+    // 호출 스레드(커밋/스케줄러)를 막지 않도록 전송용 가상 스레드에서 실행
+    private void disconnect(Subscription subscription) {
+        unsubscribe(subscription);
+        subscription.outbox.clear();
+        senders.execute(subscription.emitter::complete);
+    }
+
+    // 단계마다 마커 위치의 셀 하나씩만 조회
+    private void addCellCandidates(Set<Subscription> candidates, MarkerSnapshot marker) {
+        if (marker == null || marker.getLatitude() == null || marker.getLongitude() == null) {
+            return;
+        }
+        for (int level = 0; level < LEVEL_CELL_SIZE_DEG.length; level++) {
+            Set<Subscription> cell = cells.get(key(level,
+                    row(marker.getLatitude(), level), col(marker.getLongitude(), level)));
+            if (cell != null) {
+                candidates.addAll(cell);
+            }
+        }
+    }
+
+    // 구독 영역을 격자에 (재)등록
+    private void register(Subscription subscription, Viewport viewport) {
+        synchronized (subscription) {
+            unregisterCells(subscription);
+            subscription.viewport = viewport;
+            if (!subscriptions.containsKey(subscription.id)) {
+                return;
+            }
+
+            int level = 0;
+            int minRow;
+            int maxRow;
+            int minCol;
+            int maxCol;
+            long cellCount;
+            while (true) {
+                minRow = row(viewport.minLat(), level);
+                maxRow = row(viewport.maxLat(), level);
+                minCol = col(viewport.minLng(), level);
+                maxCol = col(viewport.maxLng(), level);
+                cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+                if (cellCount <= MAX_CELLS_PER_SUBSCRIPTION || level == LEVEL_CELL_SIZE_DEG.length - 1) {
+                    break;
+                }
+                level++;
+            }
+
+            List<Long> keys = new ArrayList<>((int) cellCount);
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minCol; c <= maxCol; c++) {
+                    long key = key(level, r, c);
+                    cells.compute(key, (k, set) -> {
+                        Set<Subscription> members = set != null ? set : ConcurrentHashMap.newKeySet();
+                        members.add(subscription);
+                        return members;
+                    });
+                    keys.add(key);
+                }
+            }
+            subscription.cellKeys = keys;
+        }
+    }
+
+    private void unregisterCells(Subscription subscription) {
+        for (Long key : subscription.cellKeys) {
+            cells.computeIfPresent(key, (k, set) -> {
+                set.remove(subscription);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        subscription.cellKeys = List.of();
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscription.closed = true;
+        if (subscriptions.remove(subscription.id, subscription)) {
+            synchronized (subscription) {
+                unregisterCells(subscription);
+            }
+            log.info("마커 변경 구독 종료 - ID: {}, 남은 구독 {}개", subscription.id, subscriptions.size());
+        }
+    }
+
+    // 격자 좌표 계산
+    private static int row(double latitude, int level) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / LEVEL_CELL_SIZE_DEG[level]);
+    }
+
+    private static int col(double longitude, int level) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, longitude)) + 180.0) / LEVEL_CELL_SIZE_DEG[level]);
+    }
+
+    // 단계(상위 비트)와 행/열(각 24비트)을 하나의 키로
+    private static long key(int level, int row, int col) {
+        return ((long) level << 48) | ((long) row << 24) | col;
+    }
+}
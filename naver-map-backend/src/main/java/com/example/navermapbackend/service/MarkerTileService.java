@@ -0,0 +1,247 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.dto.ApiResponse;
+import com.example.navermapbackend.dto.MarkerResponse;
+import com.example.navermapbackend.dto.MarkerTileResponse;
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.example.navermapbackend.index.MarkerIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 🧱 Web Mercator 타일 단위 마커 조회 + 서버 측 타일 캐시
+// 마커가 변경되면 해당 좌표를 포함하는 타일만 줌 레벨별로 무효화한다.
+// 대량 가져오기는 청크의 경계 영역과 겹치는 타일을 한 번에 무효화한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE) // 공간 인덱스 갱신 이후에 무효화
+public class MarkerTileService implements MarkerIndex {
+
+    // 이 줌 미만에서는 개별 마커 대신 클러스터를 반환
+    public static final int CLUSTER_BELOW_ZOOM = 14;
+
+    private static final int MAX_CACHED_TILES = 10_000;
+
+    private final MarkerService markerService;
+    private final MarkerClusterService markerClusterService;
+    private final ObjectMapper objectMapper;
+
+    // LRU 타일 캐시 (키: "z/x/y")
+    private final Map<String, CachedTile> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedTile> eldest) {
+                    return size() > MAX_CACHED_TILES;
+                }
+            });
+
+    // 무효화가 일어날 때마다 증가 (계산 도중 무효화된 타일은 캐시에 넣지 않음)
+    // 증가+제거(apply)와 확인+저장(getTile)은 모두 cache 모니터 안에서 수행해 사이에 끼어들 수 없게 한다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CachedTile {
+        private final ApiResponse<MarkerTileResponse> body;
+        private final String etag;
+    }
+
+    // 📍 타일 조회 (캐시 우선)
+    public CachedTile getTile(int z, int x, int y) {
+        String key = tileKey(z, x, y);
+        CachedTile cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        MarkerTileResponse tile = buildTile(z, x, y);
+        CachedTile built = new CachedTile(ApiResponse.success(tile, "타일 조회 성공"), computeEtag(tile));
+        synchronized (cache) {
+            if (invalidations.get() == stamp) {
+                cache.put(key, built);
+            }
+        }
+        return built;
+    }
+
+    private MarkerTileResponse buildTile(int z, int x, int y) {
+        double minLng = tileLongitude(x, z);
+        double maxLng = tileLongitude(x + 1, z);
+        double maxLat = tileLatitude(y, z);
+        double minLat = tileLatitude(y + 1, z);
+
+        MarkerTileResponse.MarkerTileResponseBuilder builder = MarkerTileResponse.builder()
+                .z(z).x(x).y(y);
+
+        if (z < CLUSTER_BELOW_ZOOM) {
+            return builder.clustered(true)
+                    .clusters(markerClusterService.getClusters(minLat, maxLat, minLng, maxLng, z).stream()
+                            .filter(c -> isInTile(c.getLatitude(), c.getLongitude(), z, x, y))
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+        // 경계선 위의 마커가 두 타일에 중복되지 않도록 타일 소속을 다시 확인
+        List<MarkerResponse> markers = markerService.getMarkersInArea(minLat, maxLat, minLng, maxLng).stream()
+                .filter(m -> isInTile(m.getLatitude(), m.getLongitude(), z, x, y))
+                .collect(Collectors.toList());
+        return builder.clustered(false).markers(markers).build();
+    }
+
+    // 🔐 강한 ETag: 타일 내용의 SHA-256
+    private String computeEtag(MarkerTileResponse tile) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(tile));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (Exception e) {
+            throw new IllegalStateException("타일 ETag 계산 실패", e);
+        }
+    }
+
+    // ===== MarkerIndex: 커밋된 변경에 따른 정밀 무효화 =====
+
+    @Override
+    public void rebuild(Collection<MarkerSnapshot> markers) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    @Override
+    public void apply(MarkerChangedEvent event) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            invalidate(event.getPrevious());
+            invalidate(event.getCurrent());
+        }
+    }
+
+    // 청크 전체를 감싸는 영역으로 한 번만 무효화 (마커마다 22개 줌을 지우며 모니터를 잡지 않도록)
+    @Override
+    public void applyAll(List<MarkerChangedEvent> events) {
+        double minLat = Double.POSITIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+        double minLng = Double.POSITIVE_INFINITY, maxLng = Double.NEGATIVE_INFINITY;
+        for (MarkerChangedEvent event : events) {
+            for (MarkerSnapshot marker : new MarkerSnapshot[]{event.getPrevious(), event.getCurrent()}) {
+                if (marker == null || marker.getLatitude() == null || marker.getLongitude() == null) {
+                    continue;
+                }
+                minLat = Math.min(minLat, marker.getLatitude());
+                maxLat = Math.max(maxLat, marker.getLatitude());
+                minLng = Math.min(minLng, marker.getLongitude());
+                maxLng = Math.max(maxLng, marker.getLongitude());
+            }
+        }
+        if (minLat > maxLat) {
+            return;
+        }
+
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            invalidateArea(minLat, maxLat, minLng, maxLng);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    // 영역에 걸친 타일 수가 캐시 크기보다 적으면 키로 직접 지우고, 많으면(높은 줌) 캐시를 한 번 훑는다.
+    private void invalidateArea(double minLat, double maxLat, double minLng, double maxLng) {
+        int zooms = MarkerClusterService.MAX_ZOOM - MarkerClusterService.MIN_ZOOM + 1;
+        int[][] ranges = new int[zooms][];
+        long tiles = 0;
+        for (int z = MarkerClusterService.MIN_ZOOM; z <= MarkerClusterService.MAX_ZOOM; z++) {
+            int[] range = {tileX(minLng, z), tileX(maxLng, z), tileY(maxLat, z), tileY(minLat, z)};
+            ranges[z - MarkerClusterService.MIN_ZOOM] = range;
+            tiles += (long) (range[1] - range[0] + 1) * (range[3] - range[2] + 1);
+        }
+
+        if (tiles <= cache.size()) {
+            for (int z = MarkerClusterService.MIN_ZOOM; z <= MarkerClusterService.MAX_ZOOM; z++) {
+                int[] range = ranges[z - MarkerClusterService.MIN_ZOOM];
+                for (int x = range[0]; x <= range[1]; x++) {
+                    for (int y = range[2]; y <= range[3]; y++) {
+                        cache.remove(tileKey(z, x, y));
+                    }
+                }
+            }
+            return;
+        }
+
+        cache.keySet().removeIf(key -> {
+            String[] parts = key.split("/");
+            int z = Integer.parseInt(parts[0]);
+            int x = Integer.parseInt(parts[1]);
+            int y = Integer.parseInt(parts[2]);
+            int[] range = ranges[z - MarkerClusterService.MIN_ZOOM];
+            return x >= range[0] && x <= range[1] && y >= range[2] && y <= range[3];
+        });
+    }
+
+    private void invalidate(MarkerSnapshot marker) {
+        if (marker == null || marker.getLatitude() == null || marker.getLongitude() == null) {
+            return;
+        }
+        for (int z = MarkerClusterService.MIN_ZOOM; z <= MarkerClusterService.MAX_ZOOM; z++) {
+            cache.remove(tileKey(z, tileX(marker.getLongitude(), z), tileY(marker.getLatitude(), z)));
+        }
+    }
+
+    // ===== 타일 좌표 계산 (slippy map) =====
+
+    public static boolean isValidTile(int z, int x, int y) {
+        if (z < MarkerClusterService.MIN_ZOOM || z > MarkerClusterService.MAX_ZOOM) {
+            return false;
+        }
+        int n = 1 << z;
+        return x >= 0 && x < n && y >= 0 && y < n;
+    }
+
+    static int tileX(double longitude, int z) {
+        int n = 1 << z;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(MarkerClusterService.mercatorX(longitude) * n)));
+    }
+
+    static int tileY(double latitude, int z) {
+        int n = 1 << z;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(MarkerClusterService.mercatorY(latitude) * n)));
+    }
+
+    static double tileLongitude(int x, int z) {
+        return x / (double) (1 << z) * 360.0 - 180.0;
+    }
+
+    static double tileLatitude(int y, int z) {
+        double n = Math.PI - 2.0 * Math.PI * y / (1 << z);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static boolean isInTile(double latitude, double longitude, int z, int x, int y) {
+        return tileX(longitude, z) == x && tileY(latitude, z) == y;
+    }
+
+    private static String tileKey(int z, int x, int y) {
+        return z + "/" + x + "/" + y;
+    }
+}
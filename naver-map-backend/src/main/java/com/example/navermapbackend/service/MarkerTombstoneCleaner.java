@@ -0,0 +1,40 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.repository.MarkerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 🧹 보존 기간이 지난 삭제 마커(툼스톤) 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkerTombstoneCleaner {
+
+    private final MarkerRepository markerRepository;
+    private final MarkerChangeSequence changeSequence;
+
+    @Value("${marker.tombstone-retention-hours:168}")
+    private long retentionHours;
+
+    @Scheduled(fixedDelayString = "${marker.tombstone-purge-interval-ms:3600000}",
+            initialDelayString = "${marker.tombstone-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        Long maxSeq = markerRepository.findMaxTombstoneSeqBefore(cutoff);
+        if (maxSeq == null) {
+            return;
+        }
+
+        // 삭제보다 먼저 표시하여, 정리 도중 들어온 오래된 토큰도 전체 동기화로 유도
+        changeSequence.markPurgedThrough(maxSeq);
+        int purged = markerRepository.purgeTombstonesBefore(cutoff);
+        log.info("툼스톤 정리 - {}개 삭제 (시퀀스 {} 이하)", purged, maxSeq);
+    }
+}
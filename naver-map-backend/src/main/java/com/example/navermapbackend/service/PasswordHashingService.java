@@ -0,0 +1,144 @@
+package com.example.navermapbackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 🔑 비밀번호 해싱 전용 실행기
+// BCrypt 는 의도적으로 느리므로 Tomcat 요청 스레드 대신 크기가 제한된 풀에서 처리한다.
+// 대기열이 가득 차거나 hash-timeout-ms 안에 끝나지 않으면 RejectedExecutionException 을 던져
+// 호출 측에서 503 + Retry-After 로 응답하게 한다 (요청 스레드가 해싱을 무한정 기다리지 않음).
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final long timeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${security.password.hash-threads:2}") int threads,
+                                  @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.password.retry-after-seconds:2}") long retryAfterSeconds,
+                                  @Value("${security.password.hash-timeout-ms:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .description("비밀번호 해싱 소요 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+                .description("비밀번호 해싱 소요 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("대기열 초과 또는 시간 초과로 거절된 해싱 요청 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hash.rejected")
+                .description("대기열 초과 또는 시간 초과로 거절된 해싱 요청 수")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해싱 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 true (로그인 시 재해싱)
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                // 대기열 대기 시간은 제외하고 실제 해싱 시간만 기록
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과 - 대기 {}건", executor.getQueue().size());
+            throw e;
+        }
+
+        try {
+            // 대기열 대기 + 해싱 시간 합계가 한도를 넘으면 포기 (아직 시작 전이면 실행되지 않음)
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            log.warn("비밀번호 해싱 시간 초과 - {}ms, 대기 {}건", timeoutMs, executor.getQueue().size());
+            throw new RejectedExecutionException("비밀번호 해싱 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.model.RevokedToken;
+import com.example.navermapbackend.model.User;
+import com.example.navermapbackend.repository.RevokedTokenRepository;
+import com.example.navermapbackend.repository.UserRepository;
+import com.example.navermapbackend.util.JwtUtil;
+import com.example.navermapbackend.util.TokenDenylist;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+// 🚫 토큰 폐기 (로그아웃 / 전체 기기 로그아웃)
+// 인증 필터는 메모리의 TokenDenylist 만 조회하고, DB 는 기록과 재시작 시 복원에만 사용한다.
+@Slf4j
+@Service
+public class TokenRevocationService implements SmartInitializingSingleton {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenDenylist denylist = new TokenDenylist();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  UserRepository userRepository,
+                                  MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        Gauge.builder("jwt.denylist.size", denylist, TokenDenylist::size)
+                .description("메모리에 유지 중인 폐기 토큰 수")
+                .register(meterRegistry);
+    }
+
+    // 시작 시 아직 만료되지 않은 폐기 기록을 메모리로 복원
+    @Override
+    public void afterSingletonsInstantiated() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revoked = revokedTokenRepository.findByExpiresAtAfter(now);
+        for (RevokedToken token : revoked) {
+            denylist.revoke(token.getJti(), toMillis(token.getExpiresAt()));
+        }
+        List<User> users = userRepository.findByTokensValidAfterAfter(
+                now.minus(Duration.ofMillis(JwtUtil.REFRESH_TOKEN_VALIDITY_MS)));
+        for (User user : users) {
+            denylist.revokeIssuedBefore(user.getId(), toMillis(user.getTokensValidAfter()));
+        }
+        log.info("토큰 폐기 목록 복원 - jti {}개, 사용자 기준 시각 {}개", revoked.size(), users.size());
+    }
+
+    // 🔍 인증 경로 - 메모리 조회만 수행
+    public boolean isRevoked(String jti, long userId, long issuedAtMillis) {
+        return denylist.isRevoked(jti, userId, issuedAtMillis);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        Date issuedAt = claims.getIssuedAt();
+        return userId == null || issuedAt == null
+                || denylist.isRevoked(claims.getId(), userId, issuedAt.getTime());
+    }
+
+    // 🚪 토큰 한 개 폐기 (jti 가 없는 이전 형식 토큰은 만료까지 유효)
+    @Transactional
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        Long userId = claims.get("userId", Long.class);
+        if (jti == null || userId == null || claims.getExpiration() == null) {
+            return;
+        }
+
+        long expiresAt = claims.getExpiration().getTime();
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(toLocalDateTime(expiresAt))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        denylist.revoke(jti, expiresAt);
+    }
+
+    // 🚪 사용자의 기존 토큰 전체 폐기
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        LocalDateTime now = LocalDateTime.now();
+        user.setTokensValidAfter(now);
+        denylist.revokeIssuedBefore(userId, toMillis(now));
+        log.info("전체 토큰 폐기: {}", user.getEmail());
+    }
+
+    // 🧹 만료된 폐기 기록 정리 (만료된 토큰은 서명 검증 단계에서 이미 거절됨)
+    @Scheduled(fixedDelayString = "${jwt.denylist.compact-interval-ms:600000}",
+            initialDelayString = "${jwt.denylist.compact-interval-ms:600000}")
+    @Transactional
+    public void compact() {
+        int removedFromMemory = denylist.compact(System.currentTimeMillis(), JwtUtil.REFRESH_TOKEN_VALIDITY_MS);
+        int removedFromTable = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (removedFromMemory > 0 || removedFromTable > 0) {
+            log.info("토큰 폐기 목록 정리 - 메모리 {}개, 테이블 {}개", removedFromMemory, removedFromTable);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.repository.UserRepository;
+import com.example.navermapbackend.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// 📧 가입된 이메일/전화번호 Bloom 필터
+// 회원가입 폼의 중복 확인은 대부분 "없음" 이므로, 필터가 확실히 없다고 답하면 DB 를 조회하지 않는다.
+// 필터는 값을 지울 수 없으므로 항상 실제 집합의 상위 집합이어야 한다 (저장 전에 먼저 추가).
+// 용량을 넘기면 요청 스레드가 아닌 전용 스레드에서 두 배 크기로 재구축한다.
+@Slf4j
+@Component
+public class UserExistenceFilter implements SmartInitializingSingleton {
+
+    public enum Kind {
+        EMAIL, PHONE
+    }
+
+    private final UserRepository userRepository;
+    private final double targetFalsePositiveRate;
+    private final long minimumCapacity;
+
+    private final Counter negatives;
+    private final Counter truePositives;
+    private final Counter falsePositives;
+
+    // 필터 쌍 (재구축 시 통째로 교체)
+    private record Filters(BloomFilter emails, BloomFilter phones) {
+
+        BloomFilter of(Kind kind) {
+            return kind == Kind.EMAIL ? emails : phones;
+        }
+    }
+
+    private record Pending(Kind kind, String key) {
+    }
+
+    private volatile Filters current;   // null 이면 아직 준비 안 됨 - 모두 DB 로 확인
+    private volatile Filters building;  // 재구축 중 추가되는 값을 놓치지 않도록 양쪽에 기록
+    // 추가됐지만 아직 저장(커밋)이 확인되지 않은 값 (재구축 시 DB 조회에 빠질 수 있음)
+    private final Queue<Pending> pendingAdds = new ConcurrentLinkedQueue<>();
+    // synchronized 대신 ReentrantLock - 재구축 중 DB 조회가 가상 스레드를 캐리어에 고정(pinning)하지 않도록
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 용량 초과 재구축 전용 스레드 (동시에 여러 번 요청돼도 한 번만 예약)
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-bloom-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${user.bloom.false-positive-rate:0.01}") double targetFalsePositiveRate,
+                               @Value("${user.bloom.minimum-capacity:10000}") long minimumCapacity) {
+        this.userRepository = userRepository;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        this.minimumCapacity = minimumCapacity;
+
+        this.negatives = Counter.builder("user.bloom.checks")
+                .description("Bloom 필터 중복 확인 결과")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.truePositives = Counter.builder("user.bloom.checks")
+                .description("Bloom 필터 중복 확인 결과")
+                .tag("result", "true_positive")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("user.bloom.checks")
+                .description("Bloom 필터 중복 확인 결과")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+
+        // 실측 오탐률 = 오탐 / (DB 에 없는 값 전체)
+        Gauge.builder("user.bloom.false-positive-rate", this, UserExistenceFilter::observedFalsePositiveRate)
+                .description("실측 오탐률")
+                .tag("source", "observed")
+                .register(meterRegistry);
+        Gauge.builder("user.bloom.false-positive-rate", this, f -> f.expectedFalsePositiveRate(Kind.EMAIL))
+                .description("삽입 수 기준 예상 오탐률")
+                .tag("source", "expected")
+                .tag("kind", "email")
+                .register(meterRegistry);
+        Gauge.builder("user.bloom.false-positive-rate", this, f -> f.expectedFalsePositiveRate(Kind.PHONE))
+                .description("삽입 수 기준 예상 오탐률")
+                .tag("source", "expected")
+                .tag("kind", "phone")
+                .register(meterRegistry);
+    }
+
+    // data.sql 초기화 이후, 웹 서버가 요청을 받기 전에 실행됨
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            long capacity = Math.max(minimumCapacity, userRepository.count() * 2);
+            Filters next = new Filters(
+                    BloomFilter.create(capacity, targetFalsePositiveRate),
+                    BloomFilter.create(capacity, targetFalsePositiveRate));
+            building = next;
+
+            List<String> emails = userRepository.findAllEmails();
+            for (String email : emails) {
+                next.emails().put(normalize(email));
+            }
+            List<String> phones = userRepository.findAllPhones();
+            for (String phone : phones) {
+                next.phones().put(normalize(phone));
+            }
+            for (Pending pending = pendingAdds.poll(); pending != null; pending = pendingAdds.poll()) {
+                next.of(pending.kind()).put(pending.key());
+            }
+
+            current = next;
+            building = null;
+            log.info("사용자 Bloom 필터 구축 - 이메일 {}개, 전화번호 {}개, 용량 {}, {}ms",
+                    emails.size(), phones.size(), capacity, System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 저장 전에 호출 (롤백되어도 오탐 하나가 늘 뿐 정확성에는 문제 없음)
+    public void add(Kind kind, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String key = normalize(value);
+        pendingAdds.add(new Pending(kind, key));
+        Filters building = this.building;
+        if (building != null) {
+            building.of(kind).put(key);
+        }
+        Filters current = this.current;
+        if (current != null) {
+            BloomFilter filter = current.of(kind);
+            filter.put(key);
+            if (filter.insertions() > filter.expectedInsertions()) {
+                scheduleRebuild(kind, filter);
+            }
+        }
+    }
+
+    // 저장(커밋) 이후 호출 - 이제 재구축의 DB 조회에 포함되므로 대기 목록에서 제거
+    // 재구축 중이면 건너뜀 (재구축이 대기 목록을 비우므로 남더라도 다음 재구축 때 정리됨)
+    public void saved(Kind kind, String value) {
+        if (value == null || value.isEmpty() || !rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            pendingAdds.remove(new Pending(kind, normalize(value)));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 용량 초과 시 오탐률이 급격히 오르므로 두 배 크기로 재구축 - 요청 스레드는 기다리지 않음
+    private void scheduleRebuild(Kind kind, BloomFilter full) {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            try {
+                Filters current = this.current;
+                if (current != null && current.of(kind) == full) {
+                    rebuild();
+                }
+            } catch (RuntimeException e) {
+                log.error("사용자 Bloom 필터 재구축 실패: {}", e.getMessage());
+            } finally {
+                rebuildScheduled.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // 🔍 존재 여부 - 필터가 확실히 없다고 하면 DB 조회 생략
+    public boolean exists(Kind kind, String value, Predicate<String> database) {
+        Filters current = value == null ? null : this.current;
+        if (current != null && !current.of(kind).mightContain(normalize(value))) {
+            negatives.increment();
+            return false;
+        }
+
+        boolean exists = database.test(value);
+        if (current != null) {
+            (exists ? truePositives : falsePositives).increment();
+        }
+        return exists;
+    }
+
+    // 테스트용 - 현재 필터 용량 (준비 전이면 0)
+    long capacity(Kind kind) {
+        Filters current = this.current;
+        return current == null ? 0 : current.of(kind).expectedInsertions();
+    }
+
+    int pendingCount() {
+        return pendingAdds.size();
+    }
+
+    private double observedFalsePositiveRate() {
+        double absent = negatives.count() + falsePositives.count();
+        return absent == 0 ? 0.0 : falsePositives.count() / absent;
+    }
+
+    private double expectedFalsePositiveRate(Kind kind) {
+        Filters current = this.current;
+        return current == null ? 0.0 : current.of(kind).expectedFalsePositiveRate();
+    }
+
+    // 대소문자만 다른 값은 같은 비트로 (DB 비교보다 넓게 잡아 상위 집합 유지)
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.model.User;
+import com.example.navermapbackend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 👤 사용자 요약(이메일/이름) 캐시
+// 마커 생성 응답처럼 작성자 정보가 필요한 드문 경로에서만 사용하며, 연관관계는 getReferenceById 로 설정한다.
+// 사용자 엔티티가 수정/삭제되면 UserSummaryCacheListener 가 무효화하므로 TTL 은 안전장치일 뿐이다.
+@Slf4j
+@Component
+public class UserSummaryCache {
+
+    public static final String CACHE_NAME = "userById";
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSummary> cache;
+
+    public record UserSummary(Long id, String email, String name) {
+
+        static UserSummary from(User user) {
+            return new UserSummary(user.getId(), user.getEmail(), user.getName());
+        }
+    }
+
+    public UserSummaryCache(UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("사용자 요약 캐시 초기화 - 최대 {}개, TTL {}분", maximumSize, ttlMinutes);
+    }
+
+    public UserSummary get(Long userId) {
+        return cache.get(userId, id -> userRepository.findById(id)
+                .map(UserSummary::from)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")));
+    }
+
+    // ✂️ 즉시 무효화 + 트랜잭션 종료 후 한 번 더 무효화 (커밋 전에 이전 값이 다시 적재되는 경우 제거)
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
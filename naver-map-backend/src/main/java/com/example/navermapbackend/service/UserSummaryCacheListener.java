@@ -0,0 +1,26 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+// 👤 사용자 엔티티 변경 시 요약 캐시 무효화 (이름/이메일 변경, 삭제 등 모든 경로)
+// Hibernate 가 Spring 빈 컨테이너로 생성한다. 캐시는 UserRepository -> EntityManagerFactory 에 의존하므로
+// 팩토리 생성 중 순환 참조가 되지 않도록 ObjectProvider 로 받아 첫 변경 시점에 꺼낸다.
+public class UserSummaryCacheListener {
+
+    private final ObjectProvider<UserSummaryCache> userSummaryCache;
+
+    public UserSummaryCacheListener(ObjectProvider<UserSummaryCache> userSummaryCache) {
+        this.userSummaryCache = userSummaryCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        if (user.getId() != null) {
+            userSummaryCache.getObject().invalidate(user.getId());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.navermapbackend.sql;
+
+import com.example.navermapbackend.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 🧮 요청별 SQL 집계 - 문장 수, 읽은 행 수, DB 시간
+// 운영: sql.request.statements / sql.request.rows / sql.request.time 지표 (method, uri 태그)
+// 개발: X-Sql-Statements / X-Sql-Rows / X-Sql-Time-Ms 응답 헤더 (dev 프로필에서 sql.accounting.response-headers=true)
+// 같은 SQL 이 반복되면 N+1 의심으로 경고하고, @SqlBudget 을 넘긴 엔드포인트는 sql.budget.exceeded 지표와 로그로 드러낸다.
+// fail-on-budget-exceeded=true (테스트) 이면 본문을 버퍼링해 두었다가 예산 초과 시 500 SQL_BUDGET_EXCEEDED 로 바꾼다.
+// 헤더와 실패 모드 모두 본문을 버퍼링하므로 운영에서는 끈다. 스트리밍/SSE 응답은 버퍼링하지 않고 지표/로그만 남긴다.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "sql.accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean responseHeaders;
+    private final List<String> streamingPaths;
+    private final int repeatThreshold;
+    private final boolean failOnBudgetExceeded;
+    private final Map<String, RequestMeters> metersByRoute = new ConcurrentHashMap<>();
+
+    public SqlAccountingFilter(MeterRegistry meterRegistry,
+                               ObjectMapper objectMapper,
+                               @Value("${sql.accounting.response-headers:false}") boolean responseHeaders,
+                               @Value("${sql.accounting.streaming-paths:/api/markers/export,/api/markers/subscribe}") List<String> streamingPaths,
+                               @Value("${sql.accounting.repeated-statement-threshold:20}") int repeatThreshold,
+                               @Value("${sql.accounting.fail-on-budget-exceeded:false}") boolean failOnBudgetExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.responseHeaders = responseHeaders;
+        this.streamingPaths = streamingPaths;
+        this.repeatThreshold = repeatThreshold;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        // 헤더 추가와 예산 초과 응답은 커밋 전에 해야 하므로 본문을 버퍼링 - 스트리밍/SSE 응답은 제외
+        ContentCachingResponseWrapper cachingResponse = (responseHeaders || failOnBudgetExceeded) && !isStreaming(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+
+        SqlStatementStats stats = SqlStatementStats.begin(repeatThreshold);
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            SqlStatementStats.end();
+        }
+
+        try {
+            String budgetViolation = record(request, stats);
+            if (cachingResponse != null) {
+                if (budgetViolation != null && failOnBudgetExceeded) {
+                    writeBudgetExceeded(cachingResponse, budgetViolation);
+                }
+                if (responseHeaders) {
+                    cachingResponse.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+                    cachingResponse.setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+                    cachingResponse.setHeader(TIME_HEADER,
+                            String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getNanos())));
+                }
+            }
+        } finally {
+            if (cachingResponse != null) {
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    // 버퍼링된 원래 본문을 버리고 500 오류 응답으로 교체
+    private void writeBudgetExceeded(ContentCachingResponseWrapper response, String message) throws IOException {
+        response.resetBuffer();
+        response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        response.setContentType("application/json;charset=UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, "SQL_BUDGET_EXCEEDED"));
+    }
+
+    // 예산을 넘겼으면 그 내용을 반환 (없으면 null)
+    private String record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        RequestMeters meters = metersByRoute.computeIfAbsent(method + " " + uri,
+                key -> RequestMeters.register(meterRegistry, method, uri));
+
+        meters.statements().record(stats.getStatements());
+        meters.rows().record(stats.getRows());
+        meters.time().record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        for (String sql : stats.getRepeatedStatements()) {
+            meters.repeatedStatements().increment();
+            log.warn("⚠️ N+1 의심 - {} {} 에서 같은 SQL 이 {}회 이상 실행됨: {}", method, uri, repeatThreshold, sql);
+        }
+
+        return checkBudget(request, method, uri, stats, meters);
+    }
+
+    private String checkBudget(HttpServletRequest request, String method, String uri,
+                               SqlStatementStats stats, RequestMeters meters) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        SqlBudget budget = handler instanceof HandlerMethod handlerMethod
+                ? handlerMethod.getMethodAnnotation(SqlBudget.class) : null;
+        if (budget == null) {
+            return null;
+        }
+        long allowed = budget.statements() + stats.getAllowedExtraStatements();
+        if (stats.getStatements() <= allowed) {
+            return null;
+        }
+
+        String message = String.format("SQL 예산 초과 - %s %s: %d개 실행 (예산 %d개)",
+                method, uri, stats.getStatements(), allowed);
+        meters.budgetExceeded().increment();
+        log.warn("⚠️ {}", message);
+        return message;
+    }
+
+    private boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return true;
+        }
+        // upstream=true 같은 다른 파라미터와 헷갈리지 않도록 쿼리 문자열을 파싱해 stream 값만 확인 (본문은 읽지 않음)
+        String query = request.getQueryString();
+        if (query != null && "true".equals(UriComponentsBuilder.newInstance().query(query).build()
+                .getQueryParams().getFirst("stream"))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String streamingPath : streamingPaths) {
+            if (pathMatcher.match(streamingPath, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // (method, uri) 별 지표 묶음 - 요청마다 빌더로 조회/등록하지 않도록 처음 한 번만 등록
+    private record RequestMeters(DistributionSummary statements,
+                                 DistributionSummary rows,
+                                 Timer time,
+                                 Counter repeatedStatements,
+                                 Counter budgetExceeded) {
+
+        static RequestMeters register(MeterRegistry registry, String method, String uri) {
+            return new RequestMeters(
+                    DistributionSummary.builder("sql.request.statements")
+                            .description("요청 한 건에서 실행된 SQL 문 수")
+                            .baseUnit("statements")
+                            .tag("method", method)
+                            .tag("uri", uri)
+                            .register(registry),
+                    DistributionSummary.builder("sql.request.rows")
+                            .description("요청 한 건에서 읽은 행 수")
+                            .baseUnit("rows")
+                            .tag("method", method)
+                            .tag("uri", uri)
+                            .register(registry),
+                    Timer.builder("sql.request.time")
+                            .description("요청 한 건이 DB 에서 보낸 시간 (실행 + 행 읽기)")
+                            .tag("method", method)
+                            .tag("uri", uri)
+                            .register(registry),
+                    Counter.builder("sql.repeated.statements")
+                            .description("같은 SQL 이 임계 횟수 이상 반복된 요청 수 (N+1 의심)")
+                            .tag("method", method)
+                            .tag("uri", uri)
+                            .register(registry),
+                    Counter.builder("sql.budget.exceeded")
+                            .description("@SqlBudget 을 넘긴 요청 수")
+                            .tag("method", method)
+                            .tag("uri", uri)
+                            .register(registry));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.navermapbackend.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 📏 엔드포인트가 요청 한 건에 실행할 수 있는 최대 SQL 문 수
+// 입력 크기에 비례해 늘어나는 문장(IN 절 분할 조회 등)은 SqlStatementStats.allowExtraStatements 로 알린 만큼 더해진다.
+// 초과하면 sql.budget.exceeded 지표와 경고 로그를 남기고,
+// sql.accounting.fail-on-budget-exceeded=true (테스트) 이면 응답을 500 SQL_BUDGET_EXCEEDED 로 바꾼다.
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int statements();
+}
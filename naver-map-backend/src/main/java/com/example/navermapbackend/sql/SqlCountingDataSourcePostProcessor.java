@@ -0,0 +1,138 @@
+package com.example.navermapbackend.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+// 🔌 DataSource 를 감싸 요청별 SQL 집계(SqlStatementStats)를 채운다
+// Hibernate 뿐 아니라 JdbcTemplate(일괄 적재, 내보내기) 경로도 같은 방식으로 센다.
+// 요청 범위 밖에서 얻은 커넥션은 감싸지 않으므로 스케줄러/시작 시 적재에는 비용이 없다.
+// executeBatch 는 왕복 한 번이므로 문장 하나로 센다.
+@Component
+@ConditionalOnProperty(name = "sql.accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(DataSource.class, new DataSourceHandler(dataSource));
+        }
+        return bean;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                SqlCountingDataSourcePostProcessor.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    // equals/hashCode 는 프록시 자신 기준 (트랜잭션 동기화가 같은 커넥션인지 비교할 때 사용)
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            if (result instanceof Connection connection && SqlStatementStats.current() != null) {
+                return proxy(Connection.class, new ConnectionHandler(connection));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null));
+            }
+            return result;
+        }
+    }
+
+    // sql 은 prepareStatement 시점의 문장 (일반 Statement 는 execute* 인자에서 얻음)
+    private record StatementHandler(Statement target, String sql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats == null) {
+                return SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            }
+
+            if (name.startsWith("execute")) {
+                String executed = sql != null ? sql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                long start = System.nanoTime();
+                try {
+                    return wrapResultSet(proxy, SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args));
+                } finally {
+                    stats.recordStatement(executed, System.nanoTime() - start);
+                }
+            }
+            if (name.equals("getResultSet")) {
+                return wrapResultSet(proxy, SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args));
+            }
+            return SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+        }
+
+        private static Object wrapResultSet(Object statement, Object result) {
+            if (result instanceof ResultSet resultSet) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, (Statement) statement));
+            }
+            return result;
+        }
+    }
+
+    // 행을 읽는 시간도 DB 시간에 포함 (next() 가 드라이버에서 다음 묶음을 가져올 수 있음)
+    // getStatement() 는 감싼 Statement 를 돌려줘 Hibernate 의 자원 정리와 짝이 맞게 한다.
+    private record ResultSetHandler(ResultSet target, Statement statement) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("getStatement")) {
+                return statement;
+            }
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats == null || !method.getName().equals("next")) {
+                return SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            }
+            long start = System.nanoTime();
+            boolean hasRow = (Boolean) SqlCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            stats.recordFetch(hasRow, System.nanoTime() - start);
+            return hasRow;
+        }
+    }
+}
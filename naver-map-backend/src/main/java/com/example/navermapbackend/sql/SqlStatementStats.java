@@ -0,0 +1,88 @@
+package com.example.navermapbackend.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 🧮 HTTP 요청 한 건 동안 실행된 SQL 집계 (문장 수, 읽은 행 수, DB 시간)
+// 요청 스레드에 묶인 ThreadLocal 이므로 동기화 없이 누적한다.
+// StreamingResponseBody/SSE 처럼 다른 스레드에서 실행되는 조회는 집계되지 않는다.
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final int repeatThreshold;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private final List<String> repeatedStatements = new ArrayList<>();
+
+    private long statements;
+    private long rows;
+    private long nanos;
+    private long allowedExtraStatements;
+
+    private SqlStatementStats(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    // 요청 시작 - repeatThreshold 번째 같은 SQL 이 실행되면 N+1 의심 목록에 올린다
+    public static SqlStatementStats begin(int repeatThreshold) {
+        SqlStatementStats stats = new SqlStatementStats(repeatThreshold);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // 요청 범위 밖(스케줄러, 시작 시 적재 등)이면 null
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // IN 절을 나눠 조회하는 것처럼 입력 크기에 비례하는 문장을 미리 알려 @SqlBudget 에 더해 준다 (요청 범위 밖이면 무시)
+    public static void allowExtraStatements(int count) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null && count > 0) {
+            stats.allowedExtraStatements += count;
+        }
+    }
+
+    void recordStatement(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (sql != null && repeatThreshold > 0
+                && executionsBySql.merge(sql, 1, Integer::sum) == repeatThreshold) {
+            repeatedStatements.add(sql);
+        }
+    }
+
+    void recordFetch(boolean hasRow, long elapsedNanos) {
+        if (hasRow) {
+            rows++;
+        }
+        nanos += elapsedNanos;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getAllowedExtraStatements() {
+        return allowedExtraStatements;
+    }
+
+    // 같은 SQL 이 임계 횟수 이상 반복된 문장 (지연 로딩 N+1 의 전형적인 모습)
+    public List<String> getRepeatedStatements() {
+        return repeatedStatements;
+    }
+}
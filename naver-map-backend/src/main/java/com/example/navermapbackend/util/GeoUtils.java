@@ -0,0 +1,197 @@
+package com.example.navermapbackend.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 🌏 지오해시 / 거리 계산 유틸리티
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double KM_PER_DEGREE_LAT = 111.32;
+
+    // 마커 테이블에 저장하는 지오해시 정밀도 (약 4.8m x 4.8m)
+    public static final int GEOHASH_PRECISION = 9;
+
+    private static final String BASE32_INDEX = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final char[] BASE32 = BASE32_INDEX.toCharArray();
+
+    // 반경 검색 시 조회할 최대 지오해시 셀 수
+    private static final int MAX_COVER_CELLS = 16;
+
+    private GeoUtils() {
+    }
+
+    // 저장된 지오해시(GEOHASH_PRECISION 자리) 중 from 이상 to 이하인 값 - 연속된 접두사 셀을 한 범위로 묶은 것
+    public record GeohashRange(String from, String to) {
+    }
+
+    // 📏 두 지점 간 대권 거리 (Haversine, km)
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 🔲 중심점과 반경을 감싸는 경계 상자 [minLat, maxLat, minLng, maxLng]
+    // 날짜변경선(±180)을 넘으면 경도를 반대편으로 감아 minLng > maxLng 로 반환하고,
+    // 극점에 닿거나 경도 폭이 360도 이상이면 경도 전체(-180 ~ 180)를 반환한다.
+    public static double[] boundingBox(double latitude, double longitude, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90.0, latitude - dLat);
+        double maxLat = Math.min(90.0, latitude + dLat);
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double dLng = cosLat < 1e-6 ? 180.0 : radiusKm / (KM_PER_DEGREE_LAT * cosLat);
+        if (dLng >= 180.0 || minLat <= -90.0 || maxLat >= 90.0) {
+            return new double[]{minLat, maxLat, -180.0, 180.0};
+        }
+        double minLng = longitude - dLng;
+        double maxLng = longitude + dLng;
+        if (minLng < -180.0) {
+            minLng += 360.0;
+        }
+        if (maxLng > 180.0) {
+            maxLng -= 360.0;
+        }
+        return new double[]{minLat, maxLat, minLng, maxLng};
+    }
+
+    // 🔤 지오해시 인코딩
+    public static String encodeGeohash(double latitude, double longitude, int precision) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static String encodeGeohash(double latitude, double longitude) {
+        return encodeGeohash(latitude, longitude, GEOHASH_PRECISION);
+    }
+
+    // 지오해시 셀 높이/너비 (도 단위)
+    public static double geohashCellHeight(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    public static double geohashCellWidth(int precision) {
+        int lngBits = (5 * precision + 1) / 2;
+        return 360.0 / (1L << lngBits);
+    }
+
+    // 🧩 경계 상자를 덮는 지오해시 접두사 집합
+    // 셀 수가 MAX_COVER_CELLS 이하가 되는 가장 정밀한 단계를 선택한다.
+    // minLng > maxLng 이면 날짜변경선을 넘는 상자로 보고 양쪽을 각각 덮는다.
+    public static Set<String> coveringGeohashes(double minLat, double maxLat, double minLng, double maxLng) {
+        if (minLng > maxLng) {
+            Set<String> cells = new LinkedHashSet<>(coveringGeohashes(minLat, maxLat, minLng, 180.0));
+            cells.addAll(coveringGeohashes(minLat, maxLat, -180.0, maxLng));
+            return cells;
+        }
+        for (int precision = GEOHASH_PRECISION; precision > 1; precision--) {
+            double height = geohashCellHeight(precision);
+            double width = geohashCellWidth(precision);
+            long rows = (long) Math.ceil((maxLat - minLat) / height) + 1;
+            long cols = (long) Math.ceil((maxLng - minLng) / width) + 1;
+            if (rows * cols <= MAX_COVER_CELLS) {
+                return cover(minLat, maxLat, minLng, maxLng, precision);
+            }
+        }
+        return cover(minLat, maxLat, minLng, maxLng, 1);
+    }
+
+    // 📚 덮는 셀을 한 번의 조회로 읽을 수 있도록 정렬된 값 범위로 변환
+    // 같은 길이의 접두사가 base32 순서로 이어지면 하나의 범위로 합친다 (접두사 'wydm' → 'wydm' ~ 'wydmzzzzz')
+    public static List<GeohashRange> coveringGeohashRanges(double minLat, double maxLat, double minLng, double maxLng) {
+        List<GeohashRange> ranges = new ArrayList<>();
+        String first = null;
+        String last = null;
+        for (String cell : new TreeSet<>(coveringGeohashes(minLat, maxLat, minLng, maxLng))) {
+            if (last != null && cell.equals(nextGeohash(last))) {
+                last = cell;
+                continue;
+            }
+            if (first != null) {
+                ranges.add(toRange(first, last));
+            }
+            first = cell;
+            last = cell;
+        }
+        if (first != null) {
+            ranges.add(toRange(first, last));
+        }
+        return ranges;
+    }
+
+    private static GeohashRange toRange(String first, String last) {
+        return new GeohashRange(first, last + "z".repeat(GEOHASH_PRECISION - last.length()));
+    }
+
+    // base32 순서상 바로 다음 같은 길이의 지오해시 (마지막이면 null)
+    private static String nextGeohash(String hash) {
+        char[] chars = hash.toCharArray();
+        for (int i = chars.length - 1; i >= 0; i--) {
+            int index = BASE32_INDEX.indexOf(chars[i]);
+            if (index < BASE32.length - 1) {
+                chars[i] = BASE32[index + 1];
+                return new String(chars);
+            }
+            chars[i] = BASE32[0];
+        }
+        return null;
+    }
+
+    private static Set<String> cover(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        double height = geohashCellHeight(precision);
+        double width = geohashCellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLat; ; lat = Math.min(maxLat, lat + height)) {
+            for (double lng = minLng; ; lng = Math.min(maxLng, lng + width)) {
+                cells.add(encodeGeohash(lat, lng, precision));
+                if (lng >= maxLng) {
+                    break;
+                }
+            }
+            if (lat >= maxLat) {
+                break;
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.navermapbackend.util;
+
+import java.util.Locale;
+
+// 🇰🇷 한글 자모 분해 유틸리티 (자동완성의 입력 중 음절 매칭용)
+public final class HangulUtils {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 겹모음은 입력 순서대로 풀어 둔다 (예: ㅘ = ㅗ + ㅏ)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 겹받침도 입력 순서대로 풀어 둔다 (예: ㄳ = ㄱ + ㅅ)
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환 자모 영역)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulUtils() {
+    }
+
+    // 완성형 음절을 자모 단위로 분해 (소문자화, 공백 제거)
+    // 예: "서울" -> "ㅅㅓㅇㅜㄹ". 입력 중인 "서우", "섭"(서버) 도 접두사로 비교 가능
+    public static String toJamo(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char ch = lower.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                continue;
+            }
+            if (ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST) {
+                int index = ch - SYLLABLE_BASE;
+                jamo.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                jamo.append(JUNGSEONG[(index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT]);
+                jamo.append(JONGSEONG[index % JONGSEONG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(ch);
+            if (compound >= 0) {
+                jamo.append(COMPOUND_JAMO_PARTS[compound]);
+            } else {
+                jamo.append(ch);
+            }
+        }
+        return jamo.toString();
+    }
+}
@@ -2,6 +2,7 @@
 package com.example.navermapbackend.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,17 +13,22 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
+    public static final long REFRESH_TOKEN_VALIDITY_MS = 7 * 24 * 60 * 60 * 1000L; // 7일 (가장 긴 토큰 유효 기간)
+
     private final SecretKey secretKey;
+    private final JwtParser parser; // 스레드 안전 - 요청마다 새로 만들지 않음
     private final long accessTokenValidityMs = 24 * 60 * 60 * 1000L; // 24시간
-    private final long refreshTokenValidityMs = 7 * 24 * 60 * 60 * 1000L; // 7일
+    private final long refreshTokenValidityMs = REFRESH_TOKEN_VALIDITY_MS;
 
     public JwtUtil(@Value("${jwt.secret:mySecretKeyForNaverMapBackendApplication123456}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
     }
 
     // Access Token 생성
@@ -35,6 +41,7 @@ public class JwtUtil {
                 .claim("userId", userId)
                 .claim("email", email)
                 .claim("type", "access")
+                .setId(UUID.randomUUID().toString()) // jti - 로그아웃 시 개별 폐기용
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -49,6 +56,7 @@ public class JwtUtil {
         return Jwts.builder()
                 .claim("userId", userId)
                 .claim("type", "refresh")
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -58,11 +66,7 @@ public class JwtUtil {
     // 토큰에서 Claims 추출
     public Claims getClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
             log.error("JWT Claims 추출 실패: {}", e.getMessage());
             throw new RuntimeException("유효하지 않은 토큰입니다.");
@@ -0,0 +1,44 @@
+package com.example.navermapbackend.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 🚫 폐기된 JWT 목록 (jti 단위 + 사용자별 기준 시각)
+// 조회는 ConcurrentHashMap.get 두 번뿐인 무잠금 경로이므로 인증 요청마다 호출해도 부담이 없다.
+public final class TokenDenylist {
+
+    // jti -> 토큰 만료 시각 (만료 후에는 서명 검증에서 거절되므로 제거 가능)
+    private final Map<String, Long> revokedJtis = new ConcurrentHashMap<>();
+
+    // userId -> 이 시각 이전에 발급된 토큰은 모두 무효 (전체 기기 로그아웃)
+    private final Map<Long, Long> userEpochs = new ConcurrentHashMap<>();
+
+    public void revoke(String jti, long expiresAtMillis) {
+        revokedJtis.merge(jti, expiresAtMillis, Math::max);
+    }
+
+    public void revokeIssuedBefore(long userId, long epochMillis) {
+        userEpochs.merge(userId, epochMillis, Math::max);
+    }
+
+    // iat 은 초 단위로 잘려 있으므로 기준 시각과 같은 초에 발급된 토큰도 폐기로 본다
+    public boolean isRevoked(String jti, long userId, long issuedAtMillis) {
+        if (jti != null && revokedJtis.containsKey(jti)) {
+            return true;
+        }
+        Long epoch = userEpochs.get(userId);
+        return epoch != null && issuedAtMillis <= epoch;
+    }
+
+    // 만료된 항목 정리 - epochRetentionMs 는 가장 긴 토큰 유효 기간
+    public int compact(long nowMillis, long epochRetentionMs) {
+        int before = revokedJtis.size() + userEpochs.size();
+        revokedJtis.values().removeIf(expiresAt -> expiresAt < nowMillis);
+        userEpochs.values().removeIf(epoch -> epoch + epochRetentionMs < nowMillis);
+        return before - (revokedJtis.size() + userEpochs.size());
+    }
+
+    public int size() {
+        return revokedJtis.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.navermapbackend.config;
+
+import com.example.navermapbackend.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// health 만 공개되고, prometheus/metrics 는 수집기 계정으로만 조회되는지 검증 (일반 사용자 JWT 로는 불가)
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(properties = "metrics.scrape.password=scrape-secret")
+class ActuatorSecurityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void prometheusRequiresScrapeCredential() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void userTokenCannotReadMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + jwtUtil.generateAccessToken(1L, "admin@test.com")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(httpBasic("prometheus", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+}
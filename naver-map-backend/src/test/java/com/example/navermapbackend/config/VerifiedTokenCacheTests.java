@@ -0,0 +1,96 @@
+package com.example.navermapbackend.config;
+
+import com.example.navermapbackend.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검증된 JWT 캐시 - 두 번째 검증부터 적중, 토큰 exp 시각에 만료, 검증 실패 토큰은 저장하지 않음
+@SpringBootTest
+@TestPropertySource(properties = "jwt.secret=" + VerifiedTokenCacheTests.SECRET)
+class VerifiedTokenCacheTests {
+
+    static final String SECRET = "verifiedTokenCacheTestsSecretKey0123456789abcdef";
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void secondVerificationIsCacheHit() {
+        String token = jwtUtil.generateAccessToken(1L, "admin@test.com");
+
+        VerifiedTokenCache.Verification first = verifiedTokenCache.verify(token);
+        VerifiedTokenCache.Verification second = verifiedTokenCache.verify(token);
+
+        assertThat(first.cacheHit()).isFalse();
+        assertThat(first.user().getUserId()).isEqualTo(1L);
+        assertThat(second.cacheHit()).isTrue();
+        assertThat(second.user().getUserId()).isEqualTo(1L);
+        assertThat(second.user().getEmail()).isEqualTo("admin@test.com");
+    }
+
+    @Test
+    void entryExpiresAtTokenExpiration() throws Exception {
+        // JWT exp 는 초 단위이므로 약 2초 뒤 만료되는 토큰
+        Date expiration = new Date(System.currentTimeMillis() + 2000);
+        String token = token(expiration);
+
+        assertThat(verifiedTokenCache.verify(token).user()).isNotNull();
+        assertThat(verifiedTokenCache.verify(token).cacheHit()).isTrue();
+
+        long expiresAt = jwtUtil.getClaims(token).getExpiration().getTime();
+        Thread.sleep(Math.max(0, expiresAt - System.currentTimeMillis()) + 100);
+
+        VerifiedTokenCache.Verification expired = verifiedTokenCache.verify(token);
+        assertThat(expired.cacheHit()).isFalse();
+        assertThat(expired.user()).isNull();
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        String valid = jwtUtil.generateAccessToken(1L, "admin@test.com");
+        String tampered = valid.substring(0, valid.length() - 2) + (valid.endsWith("A") ? "BB" : "AA");
+        double sizeBefore = cacheSize();
+
+        for (String token : new String[]{"not-a-jwt", tampered, "not-a-jwt", tampered}) {
+            VerifiedTokenCache.Verification verification = verifiedTokenCache.verify(token);
+            assertThat(verification.user()).isNull();
+            assertThat(verification.cacheHit()).isFalse();
+        }
+        assertThat(cacheSize()).isEqualTo(sizeBefore);
+    }
+
+    private double cacheSize() {
+        return meterRegistry.get("cache.size").tag("cache", VerifiedTokenCache.CACHE_NAME).gauge().value();
+    }
+
+    private static String token(Date expiration) {
+        return Jwts.builder()
+                .setSubject("admin@test.com")
+                .claim("userId", 1L)
+                .claim("email", "admin@test.com")
+                .claim("type", "access")
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
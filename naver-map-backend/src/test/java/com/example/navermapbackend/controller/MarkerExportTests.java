@@ -0,0 +1,51 @@
+package com.example.navermapbackend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 내보내기가 메시지 컨버터가 아닌 스트리밍으로 처리되고, 잘못된 형식은 JSON 오류로 응답하는지 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+class MarkerExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exportStreamsNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/markers/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"markers.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines().filter(line -> !line.isBlank())).hasSizeGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    void unknownFormatIsRejectedAsJson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/markers/export").param("format", "xml"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andExpect(jsonPath("$.error").value("INVALID_EXPORT_FORMAT"));
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.navermapbackend.controller;
+
+import com.example.navermapbackend.util.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 서버에 SSE 로 구독한 뒤, 구독 영역 안/밖의 마커 변경이 올바르게 걸러져 전달되는지 검증
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MarkerSubscriptionTests {
+
+    // 서울 일대
+    private static final String VIEWPORT = "minLat=37.4&maxLat=37.7&minLng=126.8&maxLng=127.2";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final BlockingQueue<SseEvent> events = new LinkedBlockingQueue<>();
+    private volatile Stream<String> stream;
+
+    private record SseEvent(String name, JsonNode data) {
+    }
+
+    @BeforeEach
+    void subscribe() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/markers/subscribe?" + VIEWPORT))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(response -> {
+                    stream = response.body();
+                    readEvents(stream);
+                });
+
+        SseEvent subscribed = nextEvent();
+        assertThat(subscribed.name()).isEqualTo("subscribed");
+        assertThat(subscribed.data().path("subscriptionId").asText()).isNotBlank();
+    }
+
+    @AfterEach
+    void unsubscribe() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Test
+    void pushesOnlyChangesInsideSubscribedViewport() throws Exception {
+        long busan = createMarker("부산역", 35.1151, 129.0414);
+        long seoul = createMarker("덕수궁", 37.5658, 126.9751);
+
+        // 영역 밖(부산) 생성은 전달되지 않고, 영역 안(서울) 생성만 전달
+        SseEvent created = nextEvent();
+        assertThat(created.name()).isEqualTo("created");
+        assertThat(created.data().path("markerId").asLong()).isEqualTo(seoul);
+        assertThat(created.data().path("marker").path("title").asText()).isEqualTo("덕수궁");
+
+        updateMarker(seoul, "덕수궁 돌담길", 37.5650, 126.9760);
+        SseEvent updated = nextEvent();
+        assertThat(updated.name()).isEqualTo("updated");
+        assertThat(updated.data().path("marker").path("title").asText()).isEqualTo("덕수궁 돌담길");
+
+        // 영역 밖으로 이동하면 구독자 입장에서는 삭제
+        updateMarker(seoul, "덕수궁 돌담길", 35.1000, 129.0300);
+        SseEvent movedOut = nextEvent();
+        assertThat(movedOut.name()).isEqualTo("deleted");
+        assertThat(movedOut.data().path("markerId").asLong()).isEqualTo(seoul);
+
+        deleteMarker(busan);
+        deleteMarker(seoul);
+        assertThat(events.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private SseEvent nextEvent() throws InterruptedException {
+        SseEvent event = events.poll(5, TimeUnit.SECONDS);
+        assertThat(event).as("SSE 이벤트 수신 대기 시간 초과").isNotNull();
+        return event;
+    }
+
+    // text/event-stream 파싱 (event: / data: / 빈 줄, 주석은 무시)
+    private void readEvents(Stream<String> lines) {
+        String[] name = {null};
+        StringBuilder data = new StringBuilder();
+        lines.forEach(line -> {
+            if (line.isEmpty()) {
+                if (name[0] != null) {
+                    try {
+                        events.add(new SseEvent(name[0], objectMapper.readTree(data.toString())));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                name[0] = null;
+                data.setLength(0);
+            } else if (line.startsWith("event:")) {
+                name[0] = line.substring(6).trim();
+            } else if (line.startsWith("data:")) {
+                data.append(line.substring(5));
+            }
+        });
+    }
+
+    private long createMarker(String title, double latitude, double longitude) throws Exception {
+        HttpResponse<String> response = client.send(authorized(uri("/api/markers"))
+                .POST(HttpRequest.BodyPublishers.ofString(markerJson(title, latitude, longitude)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(201);
+        return objectMapper.readTree(response.body()).path("data").path("id").asLong();
+    }
+
+    private void updateMarker(long id, String title, double latitude, double longitude) throws Exception {
+        HttpResponse<String> response = client.send(authorized(uri("/api/markers/" + id))
+                .PUT(HttpRequest.BodyPublishers.ofString(markerJson(title, latitude, longitude)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    private void deleteMarker(long id) throws Exception {
+        HttpResponse<String> response = client.send(authorized(uri("/api/markers/" + id))
+                .DELETE()
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    private String markerJson(String title, double latitude, double longitude) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "title", title,
+                "description", title + " 테스트 마커",
+                "category", "tourist",
+                "latitude", latitude,
+                "longitude", longitude));
+    }
+
+    private HttpRequest.Builder authorized(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + jwtUtil.generateAccessToken(1L, "admin@test.com"));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
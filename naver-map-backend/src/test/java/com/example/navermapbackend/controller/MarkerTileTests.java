@@ -0,0 +1,67 @@
+package com.example.navermapbackend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 타일 조건부 요청 - If-None-Match 의 목록, 약한 태그(W/), * 를 RFC 9110 대로 비교하는지 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+class MarkerTileTests {
+
+    // 서울 시청 일대를 덮는 z=10 타일
+    private static final String TILE = "/api/markers/tiles/10/873/396";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String etag;
+
+    @BeforeEach
+    void fetchEtag() throws Exception {
+        etag = mockMvc.perform(get(TILE))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    @Test
+    void exactEtagIsNotModified() throws Exception {
+        assertNotModified(etag);
+    }
+
+    @Test
+    void weakEtagIsNotModified() throws Exception {
+        assertNotModified("W/" + etag);
+    }
+
+    @Test
+    void etagListIsNotModified() throws Exception {
+        assertNotModified("\"other\", " + etag + ", \"another\"");
+    }
+
+    @Test
+    void wildcardIsNotModified() throws Exception {
+        assertNotModified("*");
+    }
+
+    @Test
+    void differentEtagReturnsBody() throws Exception {
+        mockMvc.perform(get(TILE).header("If-None-Match", "\"other\", W/\"another\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+    }
+
+    private void assertNotModified(String ifNoneMatch) throws Exception {
+        mockMvc.perform(get(TILE).header("If-None-Match", ifNoneMatch))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+    }
+}
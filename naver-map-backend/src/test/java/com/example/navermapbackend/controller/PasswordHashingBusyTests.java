@@ -0,0 +1,61 @@
+package com.example.navermapbackend.controller;
+
+import com.example.navermapbackend.service.PasswordHashingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 해싱 스레드 1개, 대기열 1칸에 BCrypt 비용을 크게 올려 해싱 풀을 포화시킨 뒤
+// 요청 스레드가 막히지 않고 503 + Retry-After 로 응답하는지 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "security.password.bcrypt-strength=16",
+        "security.password.hash-threads=1",
+        "security.password.hash-queue-capacity=1",
+        "security.password.hash-timeout-ms=200",
+        "security.password.retry-after-seconds=3"
+})
+class PasswordHashingBusyTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Test
+    void saturatedHashingReturns503WithRetryAfter() throws Exception {
+        // 1) 유일한 해싱 스레드가 BCrypt(16) 에 묶임 - 요청은 시간 한도에서 포기하고 503
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"부하테스트\",\"email\":\"busy@test.com\",\"password\":\"Password123\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.error").value("REGISTRATION_BUSY"));
+
+        // 2) 대기열 한 칸을 채움 - 이 호출도 시간 한도에서 포기
+        assertThatThrownBy(() -> passwordHashingService.encode("Queued123"))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        // 3) 스레드와 대기열이 모두 찬 상태 - 즉시 거절되어 503
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"admin@test.com\",\"password\":\"password\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.error").value("LOGIN_BUSY"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.navermapbackend.controller;
+
+import com.example.navermapbackend.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 로그아웃/전체 로그아웃 이후 폐기된 access/refresh 토큰이 거절되고, 새로 발급된 토큰은 통과하는지 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenRevocationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void logoutRevokesAccessAndRefreshTokens() throws Exception {
+        // data.sql 의 비밀번호 해시와 무관하게 검증하도록 토큰을 직접 발급
+        String accessToken = jwtUtil.generateAccessToken(1L, "admin@test.com");
+        Cookie refreshCookie = new Cookie("refreshToken", jwtUtil.generateRefreshToken(1L));
+
+        expectMyMarkers(accessToken, status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .cookie(refreshCookie))
+                .andExpect(status().isOk());
+
+        expectMyMarkers(accessToken, status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/refresh").cookie(refreshCookie))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("REVOKED_REFRESH_TOKEN"));
+    }
+
+    @Test
+    void logoutAllRejectsOlderTokensAndAcceptsNewOnes() throws Exception {
+        // 다른 테스트의 사용자 1 토큰에 영향을 주지 않도록 사용자 2 로 확인
+        String olderAccess = jwtUtil.generateAccessToken(2L, "user@test.com");
+        String olderRefresh = jwtUtil.generateRefreshToken(2L);
+        expectMyMarkers(olderAccess, status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout-all").header("Authorization", "Bearer " + olderAccess))
+                .andExpect(status().isOk());
+
+        expectMyMarkers(olderAccess, status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/refresh").cookie(new Cookie("refreshToken", olderRefresh)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("REVOKED_REFRESH_TOKEN"));
+
+        // iat 는 초 단위라 기준 시각과 같은 초에 발급된 토큰도 폐기로 보므로 다음 초까지 대기
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 50);
+        String newerAccess = jwtUtil.generateAccessToken(2L, "user@test.com");
+        expectMyMarkers(newerAccess, status().isOk());
+    }
+
+    private void expectMyMarkers(String accessToken, ResultMatcher expected) throws Exception {
+        mockMvc.perform(get("/api/markers/my").header("Authorization", "Bearer " + accessToken))
+                .andExpect(expected);
+    }
+}
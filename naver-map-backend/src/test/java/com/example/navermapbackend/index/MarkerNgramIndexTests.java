@@ -0,0 +1,74 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// N-gram 역색인 - 띄어쓰기 무시 부분 일치, 관련도 순서, 2-gram 후보 검증, 쓰기 이벤트 반영을 검증
+class MarkerNgramIndexTests {
+
+    private final MarkerNgramIndex index = new MarkerNgramIndex();
+
+    @Test
+    void matchesSubstringsIgnoringWhitespaceAndCase() {
+        index.rebuild(List.of(
+                marker(1, "서울 시청", "서울특별시 중구"),
+                marker(2, "N Seoul Tower", "남산 전망대")
+        ));
+
+        assertThat(index.search("울시")).containsExactly(1L);
+        assertThat(index.search("seoul tower")).containsExactly(2L);
+        assertThat(index.search("남")).containsExactly(2L);
+        assertThat(index.search("부산")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContainsThenDescription() {
+        index.rebuild(List.of(
+                marker(1, "맛집 거리", "설명"),
+                marker(2, "맛집", "설명"),
+                marker(3, "을지로 맛집", "설명"),
+                marker(4, "카페", "근처 맛집 많음")
+        ));
+
+        assertThat(index.search("맛집")).containsExactly(2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    void gramIntersectionIsVerifiedAgainstTheText() {
+        // "나가나" 의 2-gram(나가, 가나)은 모두 있지만 부분 문자열은 아님
+        index.rebuild(List.of(marker(1, "가나다나가", "")));
+
+        assertThat(index.search("나가나")).isEmpty();
+        assertThat(index.search("다나가")).containsExactly(1L);
+    }
+
+    @Test
+    void appliesCreateUpdateAndDeleteEvents() {
+        index.rebuild(List.of(marker(1, "경복궁", "조선 궁궐")));
+
+        MarkerSnapshot created = marker(2, "광장시장", "빈대떡");
+        index.apply(MarkerChangedEvent.created(created));
+        assertThat(index.search("시장")).containsExactly(2L);
+
+        MarkerSnapshot renamed = marker(2, "통인시장", "도시락 카페");
+        index.apply(MarkerChangedEvent.updated(created, renamed));
+        assertThat(index.search("광장")).isEmpty();
+        assertThat(index.search("빈대떡")).isEmpty();
+        assertThat(index.search("통인")).containsExactly(2L);
+
+        index.apply(MarkerChangedEvent.deleted(renamed));
+        assertThat(index.search("시장")).isEmpty();
+        assertThat(index.search("궁")).containsExactly(1L);
+    }
+
+    private static MarkerSnapshot marker(long id, String title, String description) {
+        return new MarkerSnapshot(id, 37.5665, 126.9780, title, description, "tourist", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.example.navermapbackend.util.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 격자 공간 인덱스 - 영역 경계 포함 여부, k-최근접 순서/개수/카테고리, 쓰기 이벤트 반영을 검증
+class MarkerSpatialIndexTests {
+
+    private final MarkerSpatialIndex index = new MarkerSpatialIndex();
+
+    @Test
+    void areaIncludesMarkersOnTheBoundary() {
+        index.rebuild(List.of(
+                marker(1, 37.50, 126.90, "tourist"),   // 남서 모서리
+                marker(2, 37.60, 127.00, "tourist"),   // 북동 모서리
+                marker(3, 37.55, 126.95, "tourist"),   // 내부
+                marker(4, 37.4999, 126.95, "tourist"), // 남쪽 바로 밖
+                marker(5, 37.55, 127.0001, "tourist")  // 동쪽 바로 밖
+        ));
+
+        assertThat(index.findIdsInArea(37.50, 37.60, 126.90, 127.00)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void wideAreaScansOccupiedCellsOnly() {
+        index.rebuild(List.of(
+                marker(1, 37.5665, 126.9780, "tourist"),
+                marker(2, 35.1796, 129.0756, "tourist"),
+                marker(3, 33.4996, 126.5312, "tourist")
+        ));
+
+        // 셀 수가 점유 셀보다 훨씬 많은 영역 - 점유 셀만 훑는 경로
+        assertThat(index.findIdsInArea(33.0, 38.0, 126.0, 130.0)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.findIdsInArea(35.0, 38.0, 126.0, 130.0)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void nearestMatchesBruteForceOrder() {
+        Random random = new Random(42);
+        List<MarkerSnapshot> markers = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            markers.add(marker(id, 37.5 + random.nextDouble() * 0.4 - 0.2,
+                    127.0 + random.nextDouble() * 0.4 - 0.2, id % 3 == 0 ? "food" : "tourist"));
+        }
+        index.rebuild(markers);
+
+        double lat = 37.52;
+        double lng = 126.98;
+        List<Long> expected = markers.stream()
+                .sorted(Comparator.comparingDouble(m -> GeoUtils.haversineKm(lat, lng, m.getLatitude(), m.getLongitude())))
+                .limit(10)
+                .map(MarkerSnapshot::getId)
+                .toList();
+
+        List<MarkerSpatialIndex.Neighbor> neighbors = index.findNearest(lat, lng, 10, null);
+
+        assertThat(neighbors).extracting(MarkerSpatialIndex.Neighbor::getId).containsExactlyElementsOf(expected);
+        assertThat(neighbors).extracting(MarkerSpatialIndex.Neighbor::getDistanceKm).isSorted();
+    }
+
+    @Test
+    void nearestWithCategoryOnlyReturnsThatCategory() {
+        index.rebuild(List.of(
+                marker(1, 37.5665, 126.9780, "tourist"),
+                marker(2, 37.5670, 126.9785, "food"),
+                marker(3, 37.6000, 127.0500, "food")
+        ));
+
+        assertThat(index.findNearest(37.5665, 126.9780, 5, "food"))
+                .extracting(MarkerSpatialIndex.Neighbor::getId)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void nearestWithSparseCategorySkipsOtherCategories() {
+        // 주변은 다른 카테고리로 빽빽하고, 찾는 카테고리는 멀리 하나뿐
+        List<MarkerSnapshot> markers = new ArrayList<>();
+        long id = 1;
+        for (int r = 0; r < 50; r++) {
+            for (int c = 0; c < 50; c++) {
+                markers.add(marker(id++, 37.40 + r * 0.01, 126.80 + c * 0.01, "tourist"));
+            }
+        }
+        markers.add(marker(id, 35.1796, 129.0756, "rare"));
+        index.rebuild(markers);
+
+        assertThat(index.findNearest(37.5665, 126.9780, 3, "rare"))
+                .extracting(MarkerSpatialIndex.Neighbor::getId)
+                .containsExactly(id);
+        assertThat(index.findNearest(37.5665, 126.9780, 3, "missing")).isEmpty();
+    }
+
+    @Test
+    void nearestWithCategoryFollowsEvents() {
+        index.rebuild(List.of(marker(1, 37.5665, 126.9780, "tourist")));
+
+        MarkerSnapshot food = marker(2, 37.5700, 126.9800, "food");
+        index.apply(MarkerChangedEvent.created(food));
+        assertThat(index.findNearest(37.5665, 126.9780, 5, "food"))
+                .extracting(MarkerSpatialIndex.Neighbor::getId)
+                .containsExactly(2L);
+
+        // 카테고리 변경 - 이전 카테고리 격자에서 빠지고 새 카테고리 격자에 들어감
+        MarkerSnapshot cafe = marker(2, 37.5700, 126.9800, "cafe");
+        index.apply(MarkerChangedEvent.updated(food, cafe));
+        assertThat(index.findNearest(37.5665, 126.9780, 5, "food")).isEmpty();
+        assertThat(index.findNearest(37.5665, 126.9780, 5, "cafe"))
+                .extracting(MarkerSpatialIndex.Neighbor::getId)
+                .containsExactly(2L);
+
+        index.apply(MarkerChangedEvent.deleted(cafe));
+        assertThat(index.findNearest(37.5665, 126.9780, 5, "cafe")).isEmpty();
+    }
+
+    @Test
+    void nearestWithKLargerThanPopulationReturnsEverything() {
+        index.rebuild(List.of(
+                marker(1, 37.5665, 126.9780, "tourist"),
+                marker(2, 35.1796, 129.0756, "tourist"),
+                marker(3, 33.4996, 126.5312, "tourist")
+        ));
+
+        // 서울 -> 부산 -> 제주 순 (멀리 떨어진 희소 셀까지 탐색)
+        assertThat(index.findNearest(37.5665, 126.9780, 10, null))
+                .extracting(MarkerSpatialIndex.Neighbor::getId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void nearestOnEmptyIndexReturnsNothing() {
+        index.rebuild(List.of());
+
+        assertThat(index.findNearest(37.5665, 126.9780, 5, null)).isEmpty();
+    }
+
+    @Test
+    void appliesCreateUpdateAndDeleteEvents() {
+        index.rebuild(List.of(marker(1, 37.5665, 126.9780, "tourist")));
+        assertThat(index.isReady()).isTrue();
+
+        MarkerSnapshot created = marker(2, 37.5700, 126.9800, "food");
+        index.apply(MarkerChangedEvent.created(created));
+        assertThat(index.findIdsInArea(37.56, 37.58, 126.97, 126.99)).containsExactlyInAnyOrder(1L, 2L);
+
+        // 부산으로 이동 - 기존 셀에서 빠지고 새 셀에 들어감
+        MarkerSnapshot moved = marker(2, 35.1796, 129.0756, "food");
+        index.apply(MarkerChangedEvent.updated(created, moved));
+        assertThat(index.findIdsInArea(37.56, 37.58, 126.97, 126.99)).containsExactly(1L);
+        assertThat(index.findIdsInArea(35.17, 35.19, 129.07, 129.08)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+
+        index.apply(MarkerChangedEvent.deleted(moved));
+        assertThat(index.findIdsInArea(35.17, 35.19, 129.07, 129.08)).isEmpty();
+        assertThat(index.findNearest(35.1796, 129.0756, 5, null))
+                .extracting(MarkerSpatialIndex.Neighbor::getId)
+                .containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static MarkerSnapshot marker(long id, double latitude, double longitude, String category) {
+        return new MarkerSnapshot(id, latitude, longitude, "마커 " + id, "", category, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.navermapbackend.index;
+
+import com.example.navermapbackend.dto.MarkerSuggestionResponse;
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자모 트라이 자동완성 - 입력 중인 음절(부분 자모) 매칭, 최근 수정 순, TOP_K 유지, 쓰기 이벤트 반영을 검증
+class MarkerTitleTrieTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final MarkerTitleTrie trie = new MarkerTitleTrie();
+
+    @Test
+    void matchesPartiallyTypedSyllables() {
+        trie.rebuild(List.of(
+                marker(1, "서울타워", 1),
+                marker(2, "서버실", 2),
+                marker(3, "부산역", 3)
+        ));
+
+        // "서우" 는 "서울" 을 입력하는 중, "섭" 은 "서버" 를 입력하는 중
+        assertThat(ids(trie.suggest("서우", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("섭", 10))).containsExactly(2L);
+        assertThat(ids(trie.suggest("ㅅ", 10))).containsExactly(2L, 1L);
+        assertThat(ids(trie.suggest("서울 타", 10))).containsExactly(1L);
+        assertThat(trie.suggest("대구", 10)).isEmpty();
+        assertThat(trie.suggest("", 10)).isEmpty();
+    }
+
+    @Test
+    void ordersByMostRecentlyUpdatedAndHonoursLimit() {
+        trie.rebuild(List.of(
+                marker(1, "카페 A", 1),
+                marker(2, "카페 B", 3),
+                marker(3, "카페 C", 2)
+        ));
+
+        assertThat(ids(trie.suggest("카페", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(trie.suggest("카페", 2))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void keepsTopKWhenTheBestEntryIsDeleted() {
+        List<MarkerSnapshot> markers = new ArrayList<>();
+        for (long id = 1; id <= MarkerTitleTrie.TOP_K + 1; id++) {
+            markers.add(marker(id, "공원 " + id, id));
+        }
+        trie.rebuild(markers);
+        assertThat(trie.suggest("공원", 100)).hasSize(MarkerTitleTrie.TOP_K).extracting(MarkerSuggestionResponse::getId)
+                .doesNotContain(1L);
+
+        // 가장 최근 항목을 지우면 밀려나 있던 가장 오래된 항목이 다시 포함됨
+        trie.apply(MarkerChangedEvent.deleted(markers.get(markers.size() - 1)));
+        assertThat(ids(trie.suggest("공원", 100))).hasSize(MarkerTitleTrie.TOP_K).contains(1L)
+                .doesNotContain((long) MarkerTitleTrie.TOP_K + 1);
+    }
+
+    @Test
+    void appliesCreateUpdateAndDeleteEvents() {
+        trie.rebuild(List.of(marker(1, "한강공원", 1)));
+
+        MarkerSnapshot created = marker(2, "한옥마을", 2);
+        trie.apply(MarkerChangedEvent.created(created));
+        assertThat(ids(trie.suggest("한", 10))).containsExactly(2L, 1L);
+
+        MarkerSnapshot renamed = marker(2, "남산골 한옥마을", 3);
+        trie.apply(MarkerChangedEvent.updated(created, renamed));
+        assertThat(ids(trie.suggest("한", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("남산", 10))).containsExactly(2L);
+        assertThat(trie.suggest("남산", 10).get(0).getTitle()).isEqualTo("남산골 한옥마을");
+
+        trie.apply(MarkerChangedEvent.deleted(renamed));
+        assertThat(trie.suggest("남", 10)).isEmpty();
+        assertThat(ids(trie.suggest("한", 10))).containsExactly(1L);
+    }
+
+    private static List<Long> ids(List<MarkerSuggestionResponse> suggestions) {
+        return suggestions.stream().map(MarkerSuggestionResponse::getId).toList();
+    }
+
+    private static MarkerSnapshot marker(long id, String title, long minutes) {
+        return new MarkerSnapshot(id, 37.5665, 126.9780, title, "", "tourist", BASE.plusMinutes(minutes));
+    }
+}
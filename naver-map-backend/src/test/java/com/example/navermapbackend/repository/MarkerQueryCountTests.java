@@ -0,0 +1,146 @@
+package com.example.navermapbackend.repository;
+
+import com.example.navermapbackend.service.MarkerResponseCache;
+import com.example.navermapbackend.util.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 목록 API가 작성자 수와 무관하게 고정된 SQL 문 수로 응답하는지 검증 (N+1 회귀 방지)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MarkerQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MarkerResponseCache markerCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void getAllMarkersUsesSingleStatement() throws Exception {
+        assertStatementCount(get("/api/markers"), 1);
+    }
+
+    @Test
+    void getMarkerByIdUsesSingleStatement() throws Exception {
+        markerCache.invalidate(1L);
+        assertStatementCount(get("/api/markers/1"), 1);
+    }
+
+    @Test
+    void getMarkerByIdServesRepeatsFromCache() throws Exception {
+        markerCache.invalidate(2L);
+        assertStatementCount(get("/api/markers/2"), 1);
+        assertStatementCount(get("/api/markers/2"), 0);
+    }
+
+    @Test
+    void getMarkersInAreaUsesSingleStatement() throws Exception {
+        assertStatementCount(get("/api/markers/area")
+                .param("minLat", "37.0").param("maxLat", "38.0")
+                .param("minLng", "126.0").param("maxLng", "128.0"), 1);
+    }
+
+    @Test
+    void getMarkersByCategoryUsesSingleStatement() throws Exception {
+        assertStatementCount(get("/api/markers/category/tourist"), 1);
+    }
+
+    @Test
+    void searchMarkersUsesSingleStatement() throws Exception {
+        assertStatementCount(get("/api/markers/search").param("keyword", "서울"), 1);
+    }
+
+    @Test
+    void shortPagedMarkersSkipCount() throws Exception {
+        // 첫 페이지가 size 보다 짧으면 Spring Data 가 전체 개수를 계산할 수 있어 count 쿼리를 생략
+        assertStatementCount(get("/api/markers/paged").param("size", "20"), 1);
+    }
+
+    @Test
+    void fullPagedMarkersUseSelectAndCount() throws Exception {
+        assertStatementCount(get("/api/markers/paged").param("size", "2").param("page", "1"), 2);
+    }
+
+    @Test
+    void cursorPagedMarkersUseSingleStatement() throws Exception {
+        assertStatementCount(get("/api/markers/paged/cursor").param("size", "20"), 1);
+    }
+
+    @Test
+    void batchGetUsesSingleStatement() throws Exception {
+        assertStatementCount(post("/api/markers/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2, 3, 4, 5, 6, 7, 8, 9999], \"fields\": [\"title\", \"createdByName\"]}"), 1);
+    }
+
+    @Test
+    void myMarkersUseSingleStatement() throws Exception {
+        // 사용자 ID 는 토큰에서 가져오므로 사용자 조회 없이 마커만 조회
+        assertStatementCount(authenticated(get("/api/markers/my")), 1);
+    }
+
+    @Test
+    void shortMyPagedMarkersSkipCount() throws Exception {
+        assertStatementCount(authenticated(get("/api/markers/my/paged")), 1);
+    }
+
+    @Test
+    void fullMyPagedMarkersUsePageAndCount() throws Exception {
+        // 사용자 1 의 초기 마커 4개 중 두 번째 페이지가 가득 차므로 count 쿼리가 필요
+        assertStatementCount(authenticated(get("/api/markers/my/paged").param("size", "2").param("page", "1")), 2);
+    }
+
+    @Test
+    void myCursorMarkersUseSingleStatement() throws Exception {
+        assertStatementCount(authenticated(get("/api/markers/my/paged/cursor")), 1);
+    }
+
+    @Test
+    void nearbyMarkersUseSingleStatement() throws Exception {
+        // 반경을 덮는 지오해시 셀 범위를 OR 로 묶어 한 번에 조회
+        assertStatementCount(get("/api/markers/nearby")
+                .param("lat", "37.5665").param("lng", "126.9780").param("radius", "10"), 1);
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + jwtUtil.generateAccessToken(1L, "admin@test.com"));
+    }
+
+    private void assertStatementCount(MockHttpServletRequestBuilder request, long expected) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+}
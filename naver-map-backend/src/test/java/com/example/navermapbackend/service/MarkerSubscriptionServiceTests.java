@@ -0,0 +1,139 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 느리거나 멈춘 구독자가 다른 구독자의 전송을 막지 않고, 대기열이 넘치면 연결이 끊기는지,
+// 넓은 구독도 상위 격자로 걸러 전달되는지 검증
+class MarkerSubscriptionServiceTests {
+
+    private static final MarkerSubscriptionService.Viewport SEOUL =
+            new MarkerSubscriptionService.Viewport(37.4, 37.7, 126.8, 127.2);
+
+    private static final int OUTBOX_CAPACITY = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MarkerSubscriptionService service =
+            new MarkerSubscriptionService(60_000, OUTBOX_CAPACITY, meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void slowSubscriberDoesNotDelayOthers() throws Exception {
+        TestEmitter slow = new TestEmitter(release);
+        TestEmitter fast = new TestEmitter(null);
+        service.subscribe(SEOUL, slow);
+        service.subscribe(SEOUL, fast);
+
+        // 느린 구독자는 첫 이벤트(subscribed) 전송에서 멈춘 상태
+        assertThat(slow.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.next()).contains("event:subscribed");
+
+        service.onMarkerChanged(created(1L));
+        assertThat(fast.next()).contains("event:created");
+    }
+
+    @Test
+    void overflowingSubscriberIsDisconnected() throws Exception {
+        TestEmitter slow = new TestEmitter(release);
+        TestEmitter fast = new TestEmitter(null);
+        service.subscribe(SEOUL, slow);
+        service.subscribe(SEOUL, fast);
+        assertThat(slow.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.next()).contains("event:subscribed");
+
+        // 대기열(4건)을 넘기는 순간 느린 구독자만 정리
+        // 빠른 구독자는 매 건 받은 뒤 다음 변경을 보내 전송 스레드 스케줄링과 무관하게 대기열이 차지 않도록 함
+        for (long id = 1; id <= OUTBOX_CAPACITY + 2; id++) {
+            service.onMarkerChanged(created(id));
+            assertThat(fast.next()).contains("event:created");
+        }
+
+        assertThat(service.getSubscriptionCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("marker.subscription.overflow").count()).isEqualTo(1);
+    }
+
+    @Test
+    void wideSubscriptionsAreMatchedThroughCoarseCells() throws Exception {
+        // 한반도 전체(1도 격자)와 전 세계(10도 격자) 구독
+        TestEmitter korea = new TestEmitter(null);
+        TestEmitter world = new TestEmitter(null);
+        service.subscribe(new MarkerSubscriptionService.Viewport(33.0, 39.0, 124.0, 132.0), korea);
+        service.subscribe(new MarkerSubscriptionService.Viewport(-90.0, 90.0, -180.0, 180.0), world);
+        assertThat(korea.next()).contains("event:subscribed");
+        assertThat(world.next()).contains("event:subscribed");
+
+        service.onMarkerChanged(created(1L, 48.8566, 2.3522)); // 파리
+        service.onMarkerChanged(created(2L, 37.5665, 126.9780)); // 서울
+
+        assertThat(world.next()).contains("event:created").contains("markerId=1,");
+        assertThat(world.next()).contains("event:created").contains("markerId=2,");
+        assertThat(korea.next()).contains("event:created").contains("markerId=2,");
+        assertThat(korea.received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private static MarkerChangedEvent created(long id) {
+        return created(id, 37.5665, 126.9780);
+    }
+
+    private static MarkerChangedEvent created(long id, double latitude, double longitude) {
+        return MarkerChangedEvent.created(new MarkerSnapshot(
+                id, latitude, longitude, "마커 " + id, "테스트", "tourist", LocalDateTime.now()));
+    }
+
+    // 전송 내용을 기록하고, release 가 주어지면 풀릴 때까지 전송을 막는 emitter
+    private static final class TestEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        private TestEmitter(CountDownLatch release) {
+            super(60_000L);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            received.add(text.toString());
+        }
+
+        private String next() throws InterruptedException {
+            String event = received.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("SSE 이벤트 전송 대기 시간 초과").isNotNull();
+            return event;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.event.MarkerChangedEvent;
+import com.example.navermapbackend.event.MarkerSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 대량 가져오기 청크가 경계 영역과 겹치는 타일만 한 번에 무효화하는지 검증
+// (캐시보다 타일이 많은 영역은 캐시를 훑고, 적은 영역은 키로 직접 지우는 두 경로 모두)
+class MarkerTileServiceTests {
+
+    private final MarkerTileService service = new MarkerTileService(
+            mock(MarkerService.class), mock(MarkerClusterService.class), new ObjectMapper());
+
+    @Test
+    void chunkInvalidatesTilesInsideItsBoundingBox() {
+        // 두 마커 사이(마커는 없지만 영역 안)의 타일과 영역 밖(부산) 타일
+        MarkerTileService.CachedTile between = tileAt(15, 37.55, 127.0);
+        MarkerTileService.CachedTile outside = tileAt(15, 35.1, 129.0);
+
+        service.applyAll(List.of(created(1L, 37.50, 126.90), created(2L, 37.60, 127.10)));
+
+        assertThat(tileAt(15, 37.55, 127.0)).isNotSameAs(between);
+        assertThat(tileAt(15, 35.1, 129.0)).isSameAs(outside);
+    }
+
+    @Test
+    void singlePointChunkRemovesTilesByKey() {
+        double latitude = 37.5665, longitude = 126.9780;
+        MarkerTileService.CachedTile[] cached = new MarkerTileService.CachedTile[MarkerClusterService.MAX_ZOOM + 1];
+        for (int z = MarkerClusterService.MIN_ZOOM; z <= MarkerClusterService.MAX_ZOOM; z++) {
+            cached[z] = tileAt(z, latitude, longitude);
+        }
+        MarkerTileService.CachedTile neighbour = service.getTile(21,
+                MarkerTileService.tileX(longitude, 21) + 1, MarkerTileService.tileY(latitude, 21));
+
+        service.applyAll(List.of(created(1L, latitude, longitude)));
+
+        for (int z = MarkerClusterService.MIN_ZOOM; z <= MarkerClusterService.MAX_ZOOM; z++) {
+            assertThat(tileAt(z, latitude, longitude)).as("z=%d", z).isNotSameAs(cached[z]);
+        }
+        assertThat(service.getTile(21, MarkerTileService.tileX(longitude, 21) + 1,
+                MarkerTileService.tileY(latitude, 21))).isSameAs(neighbour);
+    }
+
+    private MarkerTileService.CachedTile tileAt(int z, double latitude, double longitude) {
+        return service.getTile(z, MarkerTileService.tileX(longitude, z), MarkerTileService.tileY(latitude, z));
+    }
+
+    private static MarkerChangedEvent created(long id, double latitude, double longitude) {
+        return MarkerChangedEvent.created(new MarkerSnapshot(
+                id, latitude, longitude, "마커 " + id, "테스트", "tourist", LocalDateTime.now()));
+    }
+}
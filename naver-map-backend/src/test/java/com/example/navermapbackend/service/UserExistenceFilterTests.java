@@ -0,0 +1,82 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 용량을 넘기면 두 배 크기로 재구축되고, 그동안 추가/저장된 값이 하나도 빠지지 않는지 검증
+class UserExistenceFilterTests {
+
+    private static final long MINIMUM_CAPACITY = 16;
+
+    // DB 에 커밋된 이메일 (재구축이 읽는 값)
+    private final List<String> savedEmails = new CopyOnWriteArrayList<>();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private UserExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        savedEmails.addAll(List.of("admin@test.com", "user@test.com"));
+        when(userRepository.count()).thenAnswer(invocation -> (long) savedEmails.size());
+        when(userRepository.findAllEmails()).thenAnswer(invocation -> List.copyOf(savedEmails));
+        when(userRepository.findAllPhones()).thenReturn(List.of());
+
+        filter = new UserExistenceFilter(userRepository, new SimpleMeterRegistry(), 0.01, MINIMUM_CAPACITY);
+        filter.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.shutdown();
+    }
+
+    @Test
+    void rebuildsAtDoubleSizeWithoutLosingInsertions() throws Exception {
+        assertThat(filter.capacity(UserExistenceFilter.Kind.EMAIL)).isEqualTo(MINIMUM_CAPACITY);
+
+        // 회원가입 흐름: 필터에 추가 -> 저장(커밋) -> 대기 목록 정리
+        int registrations = 100;
+        for (int i = 0; i < registrations; i++) {
+            String email = "new" + i + "@test.com";
+            filter.add(UserExistenceFilter.Kind.EMAIL, email);
+            savedEmails.add(email);
+            filter.saved(UserExistenceFilter.Kind.EMAIL, email);
+        }
+
+        // 재구축은 백그라운드에서 진행 - 마지막 재구축 용량은 저장된 수의 두 배 이상
+        long deadline = System.currentTimeMillis() + 5000;
+        while (filter.capacity(UserExistenceFilter.Kind.EMAIL) < MINIMUM_CAPACITY * 2
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(filter.capacity(UserExistenceFilter.Kind.EMAIL)).isGreaterThanOrEqualTo(MINIMUM_CAPACITY * 2);
+
+        for (String email : savedEmails) {
+            // 필터가 "없음" 으로 답하면 DB 조회 없이 false - 한 건이라도 그렇다면 삽입 유실
+            assertThat(filter.exists(UserExistenceFilter.Kind.EMAIL, email, value -> true))
+                    .as(email).isTrue();
+        }
+    }
+
+    @Test
+    void savedValuesAreTrimmedFromPendingAdds() {
+        filter.add(UserExistenceFilter.Kind.EMAIL, "pending@test.com");
+        filter.add(UserExistenceFilter.Kind.PHONE, "010-0000-0000");
+        assertThat(filter.pendingCount()).isEqualTo(2);
+
+        filter.saved(UserExistenceFilter.Kind.EMAIL, "Pending@Test.com");
+        filter.saved(UserExistenceFilter.Kind.PHONE, "010-0000-0000");
+
+        assertThat(filter.pendingCount()).isZero();
+        assertThat(filter.exists(UserExistenceFilter.Kind.EMAIL, "pending@test.com", value -> true)).isTrue();
+    }
+}
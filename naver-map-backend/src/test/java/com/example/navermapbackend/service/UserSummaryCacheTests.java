@@ -0,0 +1,38 @@
+package com.example.navermapbackend.service;
+
+import com.example.navermapbackend.model.User;
+import com.example.navermapbackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사용자 이름이 바뀌면 TTL 을 기다리지 않고 작성자 요약 캐시가 새 값을 돌려주는지 검증
+@SpringBootTest
+class UserSummaryCacheTests {
+
+    @Autowired
+    private UserSummaryCache userSummaryCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void renamedUserIsReloaded() {
+        User user = userRepository.findById(2L).orElseThrow();
+        String originalName = user.getName();
+        assertThat(userSummaryCache.get(2L).name()).isEqualTo(originalName);
+
+        try {
+            user.setName("이름 변경");
+            userRepository.save(user);
+            assertThat(userSummaryCache.get(2L).name()).isEqualTo("이름 변경");
+        } finally {
+            User renamed = userRepository.findById(2L).orElseThrow();
+            renamed.setName(originalName);
+            userRepository.save(renamed);
+        }
+        assertThat(userSummaryCache.get(2L).name()).isEqualTo(originalName);
+    }
+}
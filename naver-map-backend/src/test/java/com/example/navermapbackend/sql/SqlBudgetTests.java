@@ -0,0 +1,145 @@
+package com.example.navermapbackend.sql;
+
+import com.example.navermapbackend.repository.MarkerRepository;
+import com.example.navermapbackend.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 예산 초과 시 요청을 실패시키는 모드로 @SqlBudget 이 선언된 엔드포인트를 호출해 N+1 회귀를 잡는다
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlBudgetTests.ProbeController.class)
+@TestPropertySource(properties = {
+        "sql.accounting.fail-on-budget-exceeded=true",
+        "sql.accounting.response-headers=true",
+        "sql.accounting.repeated-statement-threshold=5"
+})
+class SqlBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void budgetedEndpointsStayWithinBudget() throws Exception {
+        perform(get("/api/markers"));
+        perform(get("/api/markers/1"));
+        perform(get("/api/markers/category/tourist"));
+        perform(get("/api/markers/search").param("keyword", "서울"));
+        perform(get("/api/markers/area")
+                .param("minLat", "37.0").param("maxLat", "38.0")
+                .param("minLng", "126.0").param("maxLng", "128.0"));
+        perform(get("/api/markers/nearby")
+                .param("lat", "37.5665").param("lng", "126.9780").param("radius", "10"));
+        perform(get("/api/markers/paged").param("size", "20"));
+        perform(get("/api/markers/paged/cursor").param("size", "20").param("includeTotal", "true"));
+        perform(post("/api/markers/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2, 3, 4, 5, 6, 7, 8, 9999]}"));
+        perform(authenticated(get("/api/markers/my")));
+        perform(authenticated(get("/api/markers/my/paged")));
+        perform(authenticated(get("/api/markers/my/paged/cursor")));
+        perform(authenticated(get("/api/markers/my/paged/cursor").param("size", "2").param("includeTotal", "true")));
+    }
+
+    @Test
+    void responseCarriesSqlHeaders() throws Exception {
+        // 가득 찬 두 번째 페이지라 목록 조회 + count 2개
+        mockMvc.perform(get("/api/markers/paged").param("size", "2").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlAccountingFilter.STATEMENTS_HEADER, "2"))
+                .andExpect(header().exists(SqlAccountingFilter.ROWS_HEADER))
+                .andExpect(header().exists(SqlAccountingFilter.TIME_HEADER));
+    }
+
+    @Test
+    void exceedingBudgetFailsRequest() throws Exception {
+        mockMvc.perform(get("/test/sql/over-budget").with(user("probe")))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("SQL_BUDGET_EXCEEDED"))
+                .andExpect(header().string(SqlAccountingFilter.STATEMENTS_HEADER, "2"));
+    }
+
+    @Test
+    void declaredChunkStatementsExtendBudget() throws Exception {
+        mockMvc.perform(get("/test/sql/chunked").with(user("probe")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlAccountingFilter.STATEMENTS_HEADER, "2"));
+    }
+
+    @Test
+    void repeatedStatementIsReportedAsSuspectedNPlusOne() throws Exception {
+        mockMvc.perform(get("/test/sql/repeated").with(user("probe")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlAccountingFilter.STATEMENTS_HEADER, "5"));
+
+        Counter counter = meterRegistry.find("sql.repeated.statements").tag("uri", "/test/sql/repeated").counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    private void perform(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + jwtUtil.generateAccessToken(1L, "admin@test.com"));
+    }
+
+    // 예산 초과 / 반복 실행을 일부러 만드는 테스트 전용 엔드포인트
+    @RestController
+    static class ProbeController {
+
+        private final MarkerRepository markerRepository;
+
+        ProbeController(MarkerRepository markerRepository) {
+            this.markerRepository = markerRepository;
+        }
+
+        @GetMapping("/test/sql/over-budget")
+        @SqlBudget(statements = 1)
+        public long overBudget() {
+            return markerRepository.count() + markerRepository.count();
+        }
+
+        @GetMapping("/test/sql/chunked")
+        @SqlBudget(statements = 1)
+        public long chunked() {
+            SqlStatementStats.allowExtraStatements(1);
+            return markerRepository.count() + markerRepository.count();
+        }
+
+        @GetMapping("/test/sql/repeated")
+        public long repeated() {
+            long total = 0;
+            for (int i = 0; i < 5; i++) {
+                total += markerRepository.count();
+            }
+            return total;
+        }
+    }
+}
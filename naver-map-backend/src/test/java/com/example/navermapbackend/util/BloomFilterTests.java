@@ -0,0 +1,56 @@
+package com.example.navermapbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 넣은 값은 항상 "있을 수 있음" 으로 답하고, 설계 용량까지 채웠을 때 오탐률이 목표 근처인지 검증
+class BloomFilterTests {
+
+    private static final int CAPACITY = 10_000;
+    private static final double TARGET_RATE = 0.01;
+
+    @Test
+    void noFalseNegativesAfterPut() {
+        BloomFilter filter = BloomFilter.create(CAPACITY, TARGET_RATE);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(filter.mightContain("user" + i + "@test.com")).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void falsePositiveRateIsNearTargetAtCapacity() {
+        BloomFilter filter = BloomFilter.create(CAPACITY, TARGET_RATE);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent" + i + "@test.com")) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / probes;
+        assertThat(observed).isBetween(TARGET_RATE * 0.5, TARGET_RATE * 1.5);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(TARGET_RATE * 0.8, TARGET_RATE * 1.2);
+    }
+
+    @Test
+    void falsePositiveRateGrowsPastCapacity() {
+        BloomFilter filter = BloomFilter.create(CAPACITY, TARGET_RATE);
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        // 용량을 두 배 넘기면 예상 오탐률이 목표를 크게 넘음 (재구축이 필요한 이유)
+        assertThat(filter.expectedFalsePositiveRate()).isGreaterThan(TARGET_RATE * 5);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.navermapbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 경계 상자가 날짜변경선/극점에서 올바르게 감기고, 지오해시 범위가 상자 안의 모든 지점을 덮는지 검증
+class GeoUtilsTests {
+
+    @Test
+    void boundingBoxWrapsAcrossAntimeridian() {
+        double[] box = GeoUtils.boundingBox(0.0, 179.95, 20.0);
+
+        assertThat(box[2]).isGreaterThan(box[3]);
+        assertThat(box[2]).isBetween(179.7, 179.95);
+        assertThat(box[3]).isBetween(-179.95, -179.7);
+    }
+
+    @Test
+    void boundingBoxTouchingPoleCoversAllLongitudes() {
+        double[] box = GeoUtils.boundingBox(89.95, 10.0, 20.0);
+
+        assertThat(box[1]).isEqualTo(90.0);
+        assertThat(box[2]).isEqualTo(-180.0);
+        assertThat(box[3]).isEqualTo(180.0);
+    }
+
+    @Test
+    void rangesCoverBothSidesOfAntimeridian() {
+        double[] box = GeoUtils.boundingBox(0.0, 179.999, 5.0);
+        List<GeoUtils.GeohashRange> ranges = GeoUtils.coveringGeohashRanges(box[0], box[1], box[2], box[3]);
+
+        assertThat(covered(ranges, 0.01, 179.99)).isTrue();
+        assertThat(covered(ranges, -0.01, -179.99)).isTrue();
+        assertThat(covered(ranges, 0.0, 0.0)).isFalse();
+    }
+
+    @Test
+    void rangesCoverEveryPointInBox() {
+        double minLat = 37.40, maxLat = 37.70, minLng = 126.80, maxLng = 127.20;
+        List<GeoUtils.GeohashRange> ranges = GeoUtils.coveringGeohashRanges(minLat, maxLat, minLng, maxLng);
+
+        // 연속된 셀은 합쳐지므로 범위 수는 셀 수(최대 16)를 넘지 않는다
+        assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(16);
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            double lat = minLat + random.nextDouble() * (maxLat - minLat);
+            double lng = minLng + random.nextDouble() * (maxLng - minLng);
+            assertThat(covered(ranges, lat, lng)).as("(%s, %s)", lat, lng).isTrue();
+        }
+    }
+
+    private static boolean covered(List<GeoUtils.GeohashRange> ranges, double lat, double lng) {
+        String hash = GeoUtils.encodeGeohash(lat, lng);
+        return ranges.stream().anyMatch(range -> hash.compareTo(range.from()) >= 0 && hash.compareTo(range.to()) <= 0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.navermapbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자모 분해 - 받침/겹모음/겹받침 분해와, 입력 중인 음절이 완성된 음절의 접두사가 되는지 검증
+class HangulUtilsTests {
+
+    @Test
+    void decomposesSyllablesIntoJamo() {
+        assertThat(HangulUtils.toJamo("서울")).isEqualTo("ㅅㅓㅇㅜㄹ");
+        assertThat(HangulUtils.toJamo("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulUtils.toJamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulUtils.toJamo("가")).isEqualTo("ㄱㅏ");
+    }
+
+    @Test
+    void splitsStandaloneCompoundJamo() {
+        assertThat(HangulUtils.toJamo("ㄳ")).isEqualTo("ㄱㅅ");
+        assertThat(HangulUtils.toJamo("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(HangulUtils.toJamo("ㅎ")).isEqualTo("ㅎ");
+    }
+
+    @Test
+    void partiallyTypedSyllablesArePrefixes() {
+        assertThat(HangulUtils.toJamo("서울")).startsWith(HangulUtils.toJamo("서우"));
+        assertThat(HangulUtils.toJamo("서버")).startsWith(HangulUtils.toJamo("섭"));
+        assertThat(HangulUtils.toJamo("닭")).startsWith(HangulUtils.toJamo("달"));
+        assertThat(HangulUtils.toJamo("과자")).startsWith(HangulUtils.toJamo("고"));
+        assertThat(HangulUtils.toJamo("과자")).startsWith(HangulUtils.toJamo("ㄱ"));
+    }
+
+    @Test
+    void lowercasesAndRemovesWhitespace() {
+        assertThat(HangulUtils.toJamo("N Seoul 타워")).isEqualTo("nseoulㅌㅏㅇㅜㅓ");
+        assertThat(HangulUtils.toJamo(null)).isEmpty();
+        assertThat(HangulUtils.toJamo("   ")).isEmpty();
+    }
+}